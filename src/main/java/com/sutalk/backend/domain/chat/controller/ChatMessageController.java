@@ -1,12 +1,16 @@
 package com.sutalk.backend.domain.chat.controller;
 
+import com.sutalk.backend.domain.chat.dto.ChatSyncDTO;
+import com.sutalk.backend.domain.chat.dto.MessagePageResponseDTO;
 import com.sutalk.backend.domain.chat.dto.MessageResponseDTO;
 import com.sutalk.backend.domain.chat.entity.ChatMessage;
 import com.sutalk.backend.domain.chat.service.ChatMessageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,4 +25,33 @@ public class ChatMessageController {
     public ResponseEntity<List<MessageResponseDTO>> getMessagesByChatRoom(@PathVariable Long chatRoomId) {
         return ResponseEntity.ok(chatMessageService.getMessagesByChatRoom(chatRoomId));
     }
+
+    /** ✅ 페이지 단위 조회 (cursor = 이전 응답의 nextCursor, 없으면 최신부터) */
+    @GetMapping("/{chatRoomId}/page")
+    public ResponseEntity<MessagePageResponseDTO> getMessagePage(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "30") int size
+    ) {
+        return ResponseEntity.ok(chatMessageService.getMessagePage(chatRoomId, cursor, size));
+    }
+
+    /** ✅ 재연결 동기화: 여러 채팅방의 afterMessageId 이후 메시지 + 읽음 위치를 한 번에 (로그인 사용자만) */
+    @PostMapping("/sync")
+    public ResponseEntity<ChatSyncDTO.Response> sync(@RequestBody ChatSyncDTO.Request request, Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chatMessageService.sync(principal.getName(), request));
+    }
+
+    /** ✅ 순번 구간 조회 (수신한 seq 가 건너뛰었을 때 빠진 구간만 요청) */
+    @GetMapping("/{chatRoomId}/range")
+    public ResponseEntity<List<MessageResponseDTO>> getMessagesBySeqRange(
+            @PathVariable Long chatRoomId,
+            @RequestParam long fromSeq,
+            @RequestParam long toSeq
+    ) {
+        return ResponseEntity.ok(chatMessageService.getMessagesBySeqRange(chatRoomId, fromSeq, toSeq));
+    }
 }
@@ -1,13 +1,18 @@
 package com.sutalk.backend.domain.chat.controller;
 
+import com.sutalk.backend.domain.chat.dto.ChatSyncDTO;
 import com.sutalk.backend.domain.chat.dto.MessageDTO;
 import com.sutalk.backend.domain.chat.dto.ReadRequestDTO;
 import com.sutalk.backend.domain.chat.service.ChatMessageService;
+import com.sutalk.backend.global.config.JWT.StompUserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+
 @Controller
 @RequiredArgsConstructor
 public class ChatSocketController {
@@ -15,16 +20,24 @@ public class ChatSocketController {
     private final ChatMessageService chatMessageService;
 
     @MessageMapping("/chat.send")
-    public void sendMessage(@Payload MessageDTO messageDTO) {
-        System.out.println("📨 받은 메시지 DTO: " + messageDTO);
+    public void sendMessage(@Payload MessageDTO messageDTO, Principal principal) {
+        // ✅ 보낸 사람은 CONNECT 때 인증된 세션 사용자 (payload 의 senderId 는 신뢰하지 않음)
+        messageDTO.setSenderId(StompUserPrincipal.userIdOf(principal, messageDTO.getSenderId()));
         chatMessageService.sendMessage(messageDTO);
         // ⚠️ 여기서 더 이상 messagingTemplate.convertAndSend() 하지 않음
     }
 
+    /** ✅ 재연결 동기화 (요청한 세션에만 응답, 인증된 세션만) */
+    @MessageMapping("/chat.sync")
+    @SendToUser(destinations = "/queue/chat.sync", broadcast = false)
+    public ChatSyncDTO.Response sync(@Payload ChatSyncDTO.Request request, Principal principal) {
+        return chatMessageService.sync(StompUserPrincipal.requireUserId(principal), request);
+    }
+
     /* 🟦 읽음 이벤트 추가 */
     @MessageMapping("/chat.read")
-    public void markAsRead(@Payload ReadRequestDTO dto) {
-        System.out.println("👁️ 읽음 요청 도착: " + dto);
-        chatMessageService.markMessagesAsRead(dto.getChatRoomId(), dto.getReaderId());
+    public void markAsRead(@Payload ReadRequestDTO dto, Principal principal) {
+        String readerId = StompUserPrincipal.userIdOf(principal, dto.getReaderId());
+        chatMessageService.markMessagesAsRead(dto.getChatRoomId(), readerId, dto.getLastMessageId());
     }
 }
@@ -1,6 +1,7 @@
 package com.sutalk.backend.domain.chat.dto;
 
 import com.sutalk.backend.domain.chat.entity.ChatRoom;
+import com.sutalk.backend.domain.chat.entity.ChatRoomSummary;
 import com.sutalk.backend.domain.item.entity.Item;
 import org.springframework.stereotype.Component;
 
@@ -40,4 +41,27 @@ public class ChatRoomMapper {
                 .createdAt(room.getCreatedAt())
                 .build();
     }
+
+    /** ✅ 채팅방 목록용 (요약 + fetch join 된 채팅방, 이미지는 일괄 조회한 결과 전달) */
+    public ChatRoomResponseDTO toListDto(ChatRoomSummary summary, List<String> itemImages) {
+        ChatRoom room = summary.getChatRoom();
+        Item item = room.getItemTransaction() != null ? room.getItemTransaction().getItem() : null;
+
+        return ChatRoomResponseDTO.builder()
+                .chatroomId(room.getChatroomid())
+                .itemId(item != null ? item.getItemid() : null)
+                .itemTitle(item != null ? item.getTitle() : "상품명 없음")
+                .meetLocation(item != null ? item.getMeetLocation() : null)
+                .itemImages(itemImages != null ? itemImages : Collections.emptyList())
+                .roomType(room.getRoomType())
+                .buyerId(room.getBuyer().getUserid())
+                .buyerUsername(room.getBuyer().getName())
+                .sellerId(room.getSeller().getUserid())
+                .sellerUsername(room.getSeller().getName())
+                .createdAt(room.getCreatedAt())
+                .lastMessage(summary.getLastMessage())
+                .lastMessageAt(summary.getLastMessageAt())
+                .unreadCount(summary.getUnreadCount())
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -27,4 +28,9 @@ public class ChatRoomResponseDTO {
     private String sellerUsername;
     private String sellerId;
     private Long createdAt;
+
+    // 채팅방 목록용 요약 (요청한 유저 기준)
+    private String lastMessage;
+    private LocalDateTime lastMessageAt;
+    private Integer unreadCount;
 }
@@ -0,0 +1,56 @@
+package com.sutalk.backend.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ✅ 재연결 동기화 (여러 채팅방의 끊긴 동안 변화를 한 번에)
+ * REST: POST /api/chat-messages/sync, STOMP: /app/chat.sync → /user/queue/chat.sync
+ * 사용자는 항상 인증 정보(JWT / STOMP 세션)에서 가져옴
+ */
+public class ChatSyncDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private List<RoomCursor> rooms;
+        private Integer limit;          // 방별 최대 메시지 수 (기본 50, 최대 100)
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomCursor {
+        private Long chatRoomId;
+        private Long afterMessageId;    // 마지막으로 받은 메시지 ID (없으면 최신 메시지부터)
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private List<RoomDelta> rooms;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomDelta {
+        private Long chatRoomId;
+        private List<MessageResponseDTO> messages; // 오래된 순
+        private boolean hasMore;                   // true 면 마지막 messageId 로 다시 요청
+        private List<ReadMark> readMarks;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReadMark {
+        private String userId;
+        private Long lastReadMessageId;
+    }
+}
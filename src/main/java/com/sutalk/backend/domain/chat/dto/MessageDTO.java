@@ -21,4 +21,7 @@ public class MessageDTO {
     private LocalDateTime sentAt;
 
     private Long messageId;
+
+    // ✅ 채팅방 순번 (건너뛴 순번이 있으면 /range 로 빠진 구간만 요청)
+    private Long seq;
 }
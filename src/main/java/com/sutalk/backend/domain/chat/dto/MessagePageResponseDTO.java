@@ -0,0 +1,20 @@
+package com.sutalk.backend.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ✅ 채팅 기록 페이지 ("이전 메시지 더보기")
+ * messages 는 오래된 순 정렬, nextCursor 는 다음 요청에 cursor 로 그대로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagePageResponseDTO {
+    private List<MessageResponseDTO> messages;
+    private Long nextCursor;
+    private boolean hasMore;
+}
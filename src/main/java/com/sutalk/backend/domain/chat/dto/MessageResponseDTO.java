@@ -1,5 +1,6 @@
 package com.sutalk.backend.domain.chat.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 
 @Builder
 @Data
+@AllArgsConstructor // ✅ JPQL 생성자 프로젝션용 (필드 순서 = 쿼리 select 순서)
 public class MessageResponseDTO {
     private Long messageId;
     private Long chatRoomId;
@@ -14,4 +16,5 @@ public class MessageResponseDTO {
     private String content;
     private LocalDateTime sentAt;
     private boolean isRead;
+    private Long seq;
 }
@@ -10,4 +10,5 @@ import lombok.ToString;
 public class ReadRequestDTO {
     private Long chatRoomId;
     private String readerId;
+    private Long lastMessageId; // ✅ 선택: 화면에 표시된 마지막 메시지 ID (없으면 채팅방 최신 메시지까지)
 }
@@ -11,7 +11,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "sutalk_chat_message")
+@Table(name = "sutalk_chat_message", indexes = {
+        @Index(name = "idx_chat_message_room_msg", columnList = "chatroomid, messageid")
+}, uniqueConstraints = {
+        // ✅ 방 안에서 순번 중복 방지 (여러 인스턴스가 발급해도 같은 순번은 저장되지 않음)
+        @UniqueConstraint(name = "uk_chat_message_room_seq", columnNames = {"chatroomid", "room_seq"}),
+        // ✅ 재전송 멱등 처리 (client_id 가 NULL 인 구버전 메시지는 제약 대상 아님)
+        // 기존 DB 에 중복이 남아 있으면 ChatRoomSequencer 가 기동 시 정리 후 생성
+        @UniqueConstraint(name = "uk_chat_message_room_client", columnNames = {"chatroomid", "client_id"})
+})
 public class ChatMessage {
 
     @Id
@@ -37,4 +45,7 @@ public class ChatMessage {
 
     @Column(name = "client_id")
     private String clientId;
+
+    @Column(name = "room_seq")
+    private Long roomSeq; // ✅ 채팅방 안에서 1부터 빈틈없이 증가하는 순번 (ChatRoomSequencer 발급)
 }
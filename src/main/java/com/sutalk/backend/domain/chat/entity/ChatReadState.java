@@ -0,0 +1,38 @@
+package com.sutalk.backend.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 채팅방별 참여자 읽음 위치 (high-water mark)
+ * lastReadMessageId 이하의 상대방 메시지는 모두 읽은 것으로 간주
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "sutalk_chat_read_state", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"chatroomid", "userid"})
+})
+public class ChatReadState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chatroomid", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "userid", nullable = false)
+    private String userId;
+
+    @Column(name = "last_read_messageid", nullable = false)
+    private Long lastReadMessageId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
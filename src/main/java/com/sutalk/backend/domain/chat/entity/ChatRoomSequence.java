@@ -0,0 +1,23 @@
+package com.sutalk.backend.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ✅ 채팅방별 마지막 발급 순번 (room_seq 카운터)
+ * ChatRoomSequencer.allocate 가 메시지 INSERT 와 같은 트랜잭션에서 증가시킴 (행 잠금 = 방별 발급 순서)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sutalk_chat_room_seq")
+public class ChatRoomSequence {
+
+    @Id
+    @Column(name = "chatroomid")
+    private Long chatRoomId;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
@@ -0,0 +1,52 @@
+package com.sutalk.backend.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 참여자별 채팅방 목록 요약 (마지막 메시지 / 안 읽은 수)
+ * 메시지 전송·읽음 처리 시 갱신되며, 채팅방 목록은 이 테이블 하나를 최근 활동순으로 읽음
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "sutalk_chat_room_summary",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"chatroomid", "userid"}),
+        indexes = @Index(name = "idx_chat_summary_user_activity", columnList = "userid, last_activity_at"))
+public class ChatRoomSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chatroomid", nullable = false)
+    private Long chatRoomId;
+
+    // 목록 조회 시 fetch join 용 (읽기 전용)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chatroomid", insertable = false, updatable = false)
+    private ChatRoom chatRoom;
+
+    @Column(name = "userid", nullable = false)
+    private String userId;
+
+    @Column(name = "last_messageid")
+    private Long lastMessageId;
+
+    @Column(name = "last_message", length = 255)
+    private String lastMessage;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
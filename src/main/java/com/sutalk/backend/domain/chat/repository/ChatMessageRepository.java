@@ -1,16 +1,86 @@
 package com.sutalk.backend.domain.chat.repository;
 
+import com.sutalk.backend.domain.chat.dto.MessageDTO;
+import com.sutalk.backend.domain.chat.dto.MessageResponseDTO;
 import com.sutalk.backend.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /** ✅ 채팅방 메시지 조회 (시간순 정렬) */
     List<ChatMessage> findByChatRoom_ChatroomidOrderBySentAtAsc(Long chatroomid);
 
+    /**
+     * ✅ 커서 이전 메시지 페이지 (messageid 역순, DTO 직접 프로젝션)
+     * (chatroomid, messageid) 인덱스 범위 스캔 → 대화 길이와 무관한 비용
+     */
+    @Query("""
+        SELECT new com.sutalk.backend.domain.chat.dto.MessageResponseDTO(
+            m.messageid, m.chatRoom.chatroomid, m.sender.userid, m.content, m.sentAt, m.read, m.roomSeq)
+        FROM ChatMessage m
+        WHERE m.chatRoom.chatroomid = :roomId
+          AND (:cursor IS NULL OR m.messageid < :cursor)
+        ORDER BY m.messageid DESC
+    """)
+    List<MessageResponseDTO> findPageBefore(@Param("roomId") Long chatRoomId,
+                                            @Param("cursor") Long cursor,
+                                            Pageable pageable);
+
+    /** ✅ 커서 이후 메시지 (재연결 동기화용, messageid 오름차순) */
+    @Query("""
+        SELECT new com.sutalk.backend.domain.chat.dto.MessageResponseDTO(
+            m.messageid, m.chatRoom.chatroomid, m.sender.userid, m.content, m.sentAt, m.read, m.roomSeq)
+        FROM ChatMessage m
+        WHERE m.chatRoom.chatroomid = :roomId
+          AND m.messageid > :afterId
+        ORDER BY m.messageid
+    """)
+    List<MessageResponseDTO> findPageAfter(@Param("roomId") Long chatRoomId,
+                                           @Param("afterId") Long afterMessageId,
+                                           Pageable pageable);
+
+    /** ✅ 순번 구간 [fromSeq, toSeq] 메시지 (빠진 구간 재요청용, (chatroomid, room_seq) 인덱스 범위 스캔) */
+    @Query("""
+        SELECT new com.sutalk.backend.domain.chat.dto.MessageResponseDTO(
+            m.messageid, m.chatRoom.chatroomid, m.sender.userid, m.content, m.sentAt, m.read, m.roomSeq)
+        FROM ChatMessage m
+        WHERE m.chatRoom.chatroomid = :roomId
+          AND m.roomSeq >= :fromSeq AND m.roomSeq <= :toSeq
+        ORDER BY m.roomSeq
+    """)
+    List<MessageResponseDTO> findBySeqRange(@Param("roomId") Long chatRoomId,
+                                            @Param("fromSeq") Long fromSeq,
+                                            @Param("toSeq") Long toSeq,
+                                            Pageable pageable);
+
+    /** ✅ 채팅방 마지막 순번 */
+    @Query("SELECT MAX(m.roomSeq) FROM ChatMessage m WHERE m.chatRoom.chatroomid = :roomId")
+    Long findMaxRoomSeq(@Param("roomId") Long chatRoomId);
+
+    /** ✅ clientId 가 있는 최근 메시지 (멱등 창 적재용, 최신순) */
+    @Query("""
+        SELECT new com.sutalk.backend.domain.chat.dto.MessageDTO(
+            m.chatRoom.chatroomid, m.sender.userid, m.content, m.clientId, m.sentAt, m.messageid, m.roomSeq)
+        FROM ChatMessage m
+        WHERE m.chatRoom.chatroomid = :roomId AND m.clientId IS NOT NULL
+        ORDER BY m.messageid DESC
+    """)
+    List<MessageDTO> findRecentWithClientId(@Param("roomId") Long chatRoomId, Pageable pageable);
+
+    /** ✅ 같은 clientId 로 이미 저장된 메시지 (유니크 인덱스 충돌 시 원래 메시지로 응답) */
+    @Query("""
+        SELECT new com.sutalk.backend.domain.chat.dto.MessageDTO(
+            m.chatRoom.chatroomid, m.sender.userid, m.content, m.clientId, m.sentAt, m.messageid, m.roomSeq)
+        FROM ChatMessage m
+        WHERE m.chatRoom.chatroomid = :roomId AND m.clientId = :clientId
+    """)
+    Optional<MessageDTO> findByClientId(@Param("roomId") Long chatRoomId, @Param("clientId") String clientId);
+
     /** ✅ 채팅방 전체 삭제 */
     void deleteByChatRoom_Chatroomid(Long chatroomId);
 
@@ -19,14 +89,26 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     /** ✅ 아직 읽지 않은 메시지 목록 */
     List<ChatMessage> findAllByChatRoom_ChatroomidAndSender_UseridNotAndReadFalse(Long chatRoomId, String senderId);
 
-    /** ✅ 읽음 처리 (JPQL 즉시 반영 + 캐시 초기화) */
-    @Modifying(clearAutomatically = true)
+    /** ✅ 채팅방 마지막 메시지 ID ((chatroomid, messageid) 인덱스로 즉시 조회) */
+    @Query("SELECT MAX(m.messageid) FROM ChatMessage m WHERE m.chatRoom.chatroomid = :roomId")
+    Long findMaxMessageId(@Param("roomId") Long chatRoomId);
+
+    /** ✅ (fromId, toId] 구간에서 아직 안 읽은 상대방 메시지 ID */
     @Query("""
-        UPDATE ChatMessage m
-        SET m.read = true
+        SELECT m.messageid FROM ChatMessage m
         WHERE m.chatRoom.chatroomid = :roomId
+          AND m.messageid > :fromId AND m.messageid <= :toId
           AND m.sender.userid <> :readerId
           AND m.read = false
+        ORDER BY m.messageid
     """)
-    int markAllAsRead(@Param("roomId") Long chatRoomId, @Param("readerId") String readerId);
+    List<Long> findUnreadIdsInRange(@Param("roomId") Long chatRoomId,
+                                    @Param("readerId") String readerId,
+                                    @Param("fromId") Long fromId,
+                                    @Param("toId") Long toId);
+
+    /** ✅ 지정한 메시지들만 읽음 처리 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatMessage m SET m.read = true WHERE m.messageid IN :ids")
+    int markAsRead(@Param("ids") List<Long> messageIds);
 }
@@ -0,0 +1,48 @@
+package com.sutalk.backend.domain.chat.repository;
+
+import com.sutalk.backend.domain.chat.entity.ChatReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatReadStateRepository extends JpaRepository<ChatReadState, Long> {
+
+    Optional<ChatReadState> findByChatRoomIdAndUserId(Long chatRoomId, String userId);
+
+    /** ✅ 읽음 위치 행 보장 (동시 첫 읽음이 유니크 제약에서 충돌하지 않도록 upsert, 기존 값은 유지) */
+    @Modifying
+    @Query(value = """
+        INSERT INTO sutalk_chat_read_state (chatroomid, userid, last_read_messageid, updated_at)
+        VALUES (:roomId, :userId, 0, :now)
+        ON DUPLICATE KEY UPDATE last_read_messageid = GREATEST(last_read_messageid, VALUES(last_read_messageid))
+    """, nativeQuery = true)
+    int ensureExists(@Param("roomId") Long chatRoomId, @Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /** ✅ 현재 읽음 위치를 행 잠금과 함께 조회 (같은 참여자의 동시 읽음 처리를 직렬화) */
+    @Query(value = """
+        SELECT last_read_messageid FROM sutalk_chat_read_state
+        WHERE chatroomid = :roomId AND userid = :userId
+        FOR UPDATE
+    """, nativeQuery = true)
+    Long lockLastReadMessageId(@Param("roomId") Long chatRoomId, @Param("userId") String userId);
+
+    /** ✅ 읽음 위치 전진 (뒤로 가지 않음) */
+    @Modifying
+    @Query(value = """
+        UPDATE sutalk_chat_read_state
+        SET last_read_messageid = GREATEST(last_read_messageid, :upTo), updated_at = :now
+        WHERE chatroomid = :roomId AND userid = :userId
+    """, nativeQuery = true)
+    int advance(@Param("roomId") Long chatRoomId, @Param("userId") String userId,
+                @Param("upTo") Long upTo, @Param("now") LocalDateTime now);
+
+    List<ChatReadState> findByChatRoomIdIn(Collection<Long> chatRoomIds);
+
+    void deleteByChatRoomId(Long chatRoomId);
+}
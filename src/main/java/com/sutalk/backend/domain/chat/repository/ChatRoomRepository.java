@@ -17,6 +17,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     void deleteByItemTransaction_Transactionid(Long transactionId); // ✅ 이거 추가!
 
+    // ✅ 참여자 ID만 조회 (엔티티/유저 로딩 없이) → [buyerId, sellerId]
+    @Query("SELECT r.buyer.userid, r.seller.userid FROM ChatRoom r WHERE r.chatroomid = :roomId")
+    List<Object[]> findParticipantIds(@Param("roomId") Long chatRoomId);
+
     // ✅ 두 유저 간 친구 채팅방 존재 여부 확인
     @Query("SELECT r FROM ChatRoom r WHERE " +
             "((r.buyer.userid = :user1 AND r.seller.userid = :user2) OR " +
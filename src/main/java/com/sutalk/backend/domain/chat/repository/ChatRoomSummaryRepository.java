@@ -0,0 +1,40 @@
+package com.sutalk.backend.domain.chat.repository;
+
+import com.sutalk.backend.domain.chat.entity.ChatRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+    boolean existsByChatRoomIdAndUserId(Long chatRoomId, String userId);
+
+    /** ✅ 채팅방 목록: (userid, last_activity_at) 인덱스 1회 조회 + 채팅방/참여자/상품 fetch join */
+    @Query("""
+        SELECT s FROM ChatRoomSummary s
+        JOIN FETCH s.chatRoom r
+        JOIN FETCH r.buyer
+        JOIN FETCH r.seller
+        LEFT JOIN FETCH r.itemTransaction t
+        LEFT JOIN FETCH t.item
+        WHERE s.userId = :userId
+        ORDER BY s.lastActivityAt DESC
+    """)
+    List<ChatRoomSummary> findRoomListByUserId(@Param("userId") String userId);
+
+    /** ✅ 읽음 처리된 수만큼 안 읽은 수 차감 */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoomSummary s
+        SET s.unreadCount = CASE WHEN s.unreadCount > :count THEN s.unreadCount - :count ELSE 0 END
+        WHERE s.chatRoomId = :roomId AND s.userId = :userId
+    """)
+    int decreaseUnread(@Param("roomId") Long chatRoomId, @Param("userId") String userId, @Param("count") int count);
+
+    @Modifying
+    @Query("DELETE FROM ChatRoomSummary s WHERE s.chatRoomId = :roomId")
+    void deleteByChatRoomId(@Param("roomId") Long chatRoomId);
+}
@@ -1,48 +1,123 @@
 package com.sutalk.backend.domain.chat.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sutalk.backend.domain.chat.dto.ChatSyncDTO;
 import com.sutalk.backend.domain.chat.dto.MessageDTO;
+import com.sutalk.backend.domain.chat.dto.MessagePageResponseDTO;
 import com.sutalk.backend.domain.chat.dto.MessageResponseDTO;
 import com.sutalk.backend.domain.chat.entity.ChatMessage;
+import com.sutalk.backend.domain.chat.entity.ChatReadState;
+import com.sutalk.backend.domain.chat.repository.ChatReadStateRepository;
 import com.sutalk.backend.domain.chat.entity.ChatRoom;
 import com.sutalk.backend.domain.user.entity.User;
 import com.sutalk.backend.domain.chat.repository.ChatMessageRepository;
-import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SYNC_LIMIT = 50;
+    private static final int MAX_SYNC_ROOMS = 50;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomService chatRoomService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageWriteBehind writeBehind;
+    private final ChatRoomParticipantCache participantCache;
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ChatRoomSequencer roomSequencer;
+    private final TransactionTemplate transactionTemplate;
 
-    /** ✅ 메시지 전송 */
+    /**
+     * ✅ 메시지 전송
+     * 채팅방 순번 잠금 안에서 순번 발급 → 저장 → 브로드캐스트 (브로드캐스트 순서 = 순번 순서)
+     * 같은 clientId 재전송이면 새로 저장하지 않고 원래 메시지를 다시 알림 (프론트는 clientId 로 중복 제거)
+     */
     public void sendMessage(MessageDTO dto) {
+        roomSequencer.withRoom(dto.getChatRoomId(), room -> {
+            MessageDTO duplicate = findDuplicate(dto, room);
+            MessageDTO responseDTO;
+            if (duplicate != null) {
+                if (!duplicate.getSenderId().equals(dto.getSenderId())) {
+                    throw new IllegalArgumentException("이미 사용된 clientId 입니다.");
+                }
+                responseDTO = duplicate;
+            } else {
+                responseDTO = writeBehind.isEnabled() ? saveWriteBehind(dto, room) : save(dto);
+                room.remember(responseDTO);
+            }
+
+            messagingTemplate.convertAndSend("/topic/chat/" + dto.getChatRoomId(), responseDTO);
+            return responseDTO;
+        });
+    }
+
+    /**
+     * ✅ 같은 clientId 로 이미 보낸 메시지 찾기 (순번 발급 전에, 메모리만 확인 → 메시지마다 DB 조회 없음)
+     * - 최근 창 적중이면 바로 반환
+     * - write-behind 는 아직 저장 전인 메시지도 확인 (저장 대기 목록)
+     * - 그보다 오래된 재전송은 저장 단계의 (chatroomid, client_id) 유니크 인덱스가 막음
+     *   (일반 저장은 save 가, write-behind 는 writer 가 원래 메시지로 응답)
+     */
+    private MessageDTO findDuplicate(MessageDTO dto, ChatRoomSequencer.RoomState room) {
+        MessageDTO recent = room.findRecent(dto.getClientId());
+        if (recent != null || dto.getClientId() == null || !writeBehind.isEnabled()) return recent;
+
+        MessageDTO found = writeBehind.findPending(dto.getChatRoomId(), dto.getClientId())
+                .map(this::toMessageDTO)
+                .orElse(null);
+        if (found != null) room.remember(found);
+        return found;
+    }
+
+    private MessageDTO save(MessageDTO dto) {
         ChatRoom chatRoom = chatRoomService.getChatRoomById(dto.getChatRoomId());
-        User sender = userRepository.findById(dto.getSenderId())
-                .orElseThrow(() -> new RuntimeException("보낸 사람을 찾을 수 없습니다."));
+        User sender = userCache.getReference(dto.getSenderId(),
+                () -> new RuntimeException("보낸 사람을 찾을 수 없습니다."));
 
         LocalDateTime now = LocalDateTime.now();
 
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(sender)
-                .content(dto.getContent())
-                .clientId(dto.getClientId())
-                .sentAt(now)
-                .read(false)
-                .build();
-
-        ChatMessage saved = chatMessageRepository.save(message);
+        ChatMessage saved;
+        try {
+            // ✅ 순번 발급(카운터 행 잠금) + 저장을 한 트랜잭션으로 → 실패하면 순번도 함께 롤백
+            saved = transactionTemplate.execute(status -> chatMessageRepository.save(ChatMessage.builder()
+                    .chatRoom(chatRoom)
+                    .sender(sender)
+                    .content(dto.getContent())
+                    .clientId(dto.getClientId())
+                    .roomSeq(roomSequencer.allocate(dto.getChatRoomId()))
+                    .sentAt(now)
+                    .read(false)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // ✅ 최근 창 밖의 재전송 → (chatroomid, client_id) 유니크 인덱스가 막음, 원래 메시지로 응답
+            if (dto.getClientId() == null) throw e;
+            return chatMessageRepository.findByClientId(dto.getChatRoomId(), dto.getClientId())
+                    .filter(existing -> existing.getSenderId().equals(dto.getSenderId()))
+                    .orElseThrow(() -> e);
+        }
+        chatRoomSummaryService.onMessage(chatRoom.getChatroomid(), sender.getUserid(),
+                saved.getContent(), now, saved.getMessageid());
 
         // ✅ 클라이언트로 전송
         MessageDTO responseDTO = new MessageDTO();
@@ -52,9 +127,44 @@ public class ChatMessageService {
         responseDTO.setContent(saved.getContent());
         responseDTO.setClientId(saved.getClientId());
         responseDTO.setSentAt(now);
+        responseDTO.setSeq(saved.getRoomSeq());
+        return responseDTO;
+    }
 
-        System.out.println("📡 [Broadcast] /topic/chat/" + dto.getChatRoomId() + " => " + responseDTO);
-        messagingTemplate.convertAndSend("/topic/chat/" + dto.getChatRoomId(), responseDTO);
+    /**
+     * ✅ write-behind 모드 저장
+     * 참여자 캐시로 검증 → ID 발급 + 저널 기록 → 즉시 브로드캐스트 (DB 저장은 writer 스레드가 배치 처리)
+     */
+    private MessageDTO saveWriteBehind(MessageDTO dto, ChatRoomSequencer.RoomState room) {
+        ChatRoomParticipantCache.Participants participants = participantCache.get(dto.getChatRoomId());
+        if (!participants.contains(dto.getSenderId())) {
+            throw new RuntimeException("채팅방 참여자가 아닙니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long seq = room.nextSeq();
+        ChatMessageWriteBehind.PendingMessage pending;
+        try {
+            pending = writeBehind.submit(
+                    dto.getChatRoomId(), dto.getSenderId(), dto.getContent(), dto.getClientId(), now, seq);
+        } catch (RuntimeException e) {
+            room.release(seq);
+            throw e;
+        }
+
+        return toMessageDTO(pending);
+    }
+
+    private MessageDTO toMessageDTO(ChatMessageWriteBehind.PendingMessage pending) {
+        MessageDTO responseDTO = new MessageDTO();
+        responseDTO.setMessageId(pending.getMessageId());
+        responseDTO.setChatRoomId(pending.getChatRoomId());
+        responseDTO.setSenderId(pending.getSenderId());
+        responseDTO.setContent(pending.getContent());
+        responseDTO.setClientId(pending.getClientId());
+        responseDTO.setSentAt(pending.getSentAt());
+        responseDTO.setSeq(pending.getRoomSeq());
+        return responseDTO;
     }
 
     /** ✅ 채팅방 메시지 조회 */
@@ -65,6 +175,83 @@ public class ChatMessageService {
                 .toList();
     }
 
+    /** ✅ 채팅방 메시지 페이지 조회 (cursor 미지정 시 최신 페이지, 이후 cursor 이전으로 거슬러 올라감) */
+    @Transactional(readOnly = true)
+    public MessagePageResponseDTO getMessagePage(Long chatRoomId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // ✅ 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<MessageResponseDTO> rows = new ArrayList<>(
+                chatMessageRepository.findPageBefore(chatRoomId, cursor, PageRequest.of(0, pageSize + 1)));
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        Long nextCursor = (hasMore && !rows.isEmpty()) ? rows.get(rows.size() - 1).getMessageId() : null;
+
+        Collections.reverse(rows); // 화면 표시용: 오래된 순
+        return new MessagePageResponseDTO(rows, nextCursor, hasMore);
+    }
+
+    /**
+     * ✅ 재연결 동기화: 방마다 afterMessageId 이후 메시지 + 참여자 읽음 위치
+     * - 방별 (chatroomid, messageid) 인덱스 범위 스캔 limit+1 건 → 대화 길이와 무관한 비용
+     * - 읽음 위치는 참여자별 high-water mark (방당 최대 2행) 라 변화분 대신 현재 값을 그대로 전달
+     * - 참여하지 않은 방은 건너뜀
+     */
+    @Transactional(readOnly = true)
+    public ChatSyncDTO.Response sync(String userId, ChatSyncDTO.Request request) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 정보가 없습니다.");
+        }
+        List<ChatSyncDTO.RoomCursor> cursors = request.getRooms() != null ? request.getRooms() : List.of();
+        if (cursors.size() > MAX_SYNC_ROOMS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_SYNC_ROOMS + "개 채팅방까지 동기화할 수 있습니다.");
+        }
+        int limit = Math.max(1, Math.min(request.getLimit() != null ? request.getLimit() : DEFAULT_SYNC_LIMIT, MAX_PAGE_SIZE));
+
+        Map<Long, Long> afterIds = new LinkedHashMap<>();
+        for (ChatSyncDTO.RoomCursor cursor : cursors) {
+            if (cursor.getChatRoomId() == null) continue;
+            try {
+                if (!participantCache.get(cursor.getChatRoomId()).contains(userId)) continue;
+            } catch (RuntimeException e) {
+                continue; // 삭제된 채팅방
+            }
+            afterIds.put(cursor.getChatRoomId(), cursor.getAfterMessageId());
+        }
+        if (afterIds.isEmpty()) return new ChatSyncDTO.Response(List.of());
+
+        Map<Long, List<ChatSyncDTO.ReadMark>> readMarks = new HashMap<>();
+        for (ChatReadState state : chatReadStateRepository.findByChatRoomIdIn(afterIds.keySet())) {
+            readMarks.computeIfAbsent(state.getChatRoomId(), id -> new ArrayList<>())
+                    .add(new ChatSyncDTO.ReadMark(state.getUserId(), state.getLastReadMessageId()));
+        }
+
+        List<ChatSyncDTO.RoomDelta> rooms = new ArrayList<>(afterIds.size());
+        afterIds.forEach((roomId, afterId) -> {
+            List<MessageResponseDTO> rows = new ArrayList<>(afterId != null
+                    ? chatMessageRepository.findPageAfter(roomId, afterId, PageRequest.of(0, limit + 1))
+                    : chatMessageRepository.findPageBefore(roomId, null, PageRequest.of(0, limit + 1)));
+            boolean hasMore = rows.size() > limit;
+            if (hasMore) rows = rows.subList(0, limit);
+            // 처음 보는 방은 최신 limit 건 (hasMore 는 더 오래된 기록이 있다는 뜻 → /page 로 조회)
+            if (afterId == null) Collections.reverse(rows);
+            rooms.add(new ChatSyncDTO.RoomDelta(roomId, rows, hasMore,
+                    readMarks.getOrDefault(roomId, List.of())));
+        });
+        return new ChatSyncDTO.Response(rooms);
+    }
+
+    /** ✅ 순번 구간 [fromSeq, toSeq] 조회 (한 번에 최대 100건, 넘치면 마지막 순번 다음부터 다시 요청) */
+    @Transactional(readOnly = true)
+    public List<MessageResponseDTO> getMessagesBySeqRange(Long chatRoomId, long fromSeq, long toSeq) {
+        if (fromSeq < 1 || toSeq < fromSeq) {
+            throw new IllegalArgumentException("잘못된 순번 구간입니다.");
+        }
+        return chatMessageRepository.findBySeqRange(chatRoomId, fromSeq, toSeq, PageRequest.of(0, MAX_PAGE_SIZE));
+    }
+
     private MessageResponseDTO toResponseDto(ChatMessage msg) {
         return MessageResponseDTO.builder()
                 .messageId(msg.getMessageid())
@@ -73,30 +260,52 @@ public class ChatMessageService {
                 .content(msg.getContent())
                 .sentAt(msg.getSentAt())
                 .isRead(msg.isRead())
+                .seq(msg.getRoomSeq())
                 .build();
     }
 
-    /** ✅ 읽음 처리 (DB 즉시 반영 + 브로드캐스트) */
+    /**
+     * ✅ 읽음 처리 (high-water mark 방식)
+     * 참여자별 마지막 읽은 메시지 ID 이후 구간만 갱신하고, 새로 읽힌 메시지 ID만 브로드캐스트
+     * → 대화 전체 재조회 없이 읽음 1회 비용 = 새로 읽은 메시지 수
+     */
     @Transactional
-    public void markMessagesAsRead(Long chatRoomId, String readerId) {
-        // ✅ JPQL로 즉시 반영 (flush 불필요)
-        int updatedCount = chatMessageRepository.markAllAsRead(chatRoomId, readerId);
-        System.out.println("👁️ 읽음 처리된 메시지 수: " + updatedCount);
-
-        // ✅ 업데이트된 메시지 ID 재조회 (이제 DB에서 true로 반영됨)
-        List<Long> readMessageIds = chatMessageRepository
-                .findByChatRoom_ChatroomidOrderBySentAtAsc(chatRoomId)
-                .stream()
-                .filter(m -> m.isRead() && !m.getSender().getUserid().equals(readerId))
-                .map(ChatMessage::getMessageid)
-                .toList();
+    public void markMessagesAsRead(Long chatRoomId, String readerId, Long lastMessageId) {
+        // ✅ DB에 저장된 최신 메시지까지만 (write-behind 로 아직 저장 전인 메시지는 다음 읽음 때 반영)
+        Long latestId = chatMessageRepository.findMaxMessageId(chatRoomId);
+        if (latestId == null) return;
+        long upTo = (lastMessageId != null) ? Math.min(lastMessageId, latestId) : latestId;
 
-        try {
-            String jsonPayload = new ObjectMapper().writeValueAsString(readMessageIds);
-            messagingTemplate.convertAndSend("/topic/chat/" + chatRoomId + "/read", jsonPayload);
-            System.out.println("👁️ 읽음 브로드캐스트 전송: " + jsonPayload);
-        } catch (Exception e) {
-            System.err.println("❌ 읽음 브로드캐스트 변환 실패: " + e.getMessage());
+        // ✅ 행 보장(upsert) → 행 잠금 후 현재 위치 조회 → 전진
+        //    동시 첫 읽음(여러 탭)도 유니크 제약 충돌 없이 직렬화되고, 같은 구간을 두 번 차감하지 않음
+        LocalDateTime now = LocalDateTime.now();
+        chatReadStateRepository.ensureExists(chatRoomId, readerId, now);
+        Long current = chatReadStateRepository.lockLastReadMessageId(chatRoomId, readerId);
+        long from = current != null ? current : 0L;
+        if (upTo <= from) return;
+
+        chatReadStateRepository.advance(chatRoomId, readerId, upTo, now);
+
+        List<Long> newlyReadIds = chatMessageRepository.findUnreadIdsInRange(chatRoomId, readerId, from, upTo);
+        if (newlyReadIds.isEmpty()) return;
+        chatMessageRepository.markAsRead(newlyReadIds);
+        chatRoomSummaryService.onRead(chatRoomId, readerId, newlyReadIds.size());
+
+        // ✅ 기존 프론트와 동일하게 읽힌 메시지 ID 배열로 전송 (이번에 새로 읽힌 것만)
+        //    커밋 이후 전송 → 롤백된 읽음 처리가 상대방 화면에 반영되지 않도록
+        afterCommit(() -> messagingTemplate.convertAndSend("/topic/chat/" + chatRoomId + "/read", newlyReadIds));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,569 @@
+package com.sutalk.backend.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sutalk.backend.domain.chat.dto.MessageDTO;
+import com.sutalk.backend.domain.chat.repository.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * ✅ 채팅 메시지 write-behind 저장소 (chat.write-behind.enabled=true 일 때만 동작)
+ *
+ * 1. messageid 를 서버에서 직접 발급 → DB 저장 전에 바로 브로드캐스트 가능
+ * 2. 로컬 저널 파일에 한 줄씩 append 해서 프로세스가 죽어도 유실 방지
+ *    append 는 OS 페이지 캐시까지만 보장 → fsync(FileChannel.force)는 fsync-interval-ms 마다 묶어서 수행
+ *    (0 이면 메시지마다 force) → OS 크래시/정전 시에는 마지막 fsync 이후 최대 fsync-interval-ms 분량이 유실될 수 있음
+ *    저널은 segment-max-messages 건마다 새 세그먼트로 넘기고, 모두 저장된 세그먼트는 삭제
+ *    → 트래픽이 끊이지 않아도 저널 크기와 재기동 시 재적용 양이 미저장 구간으로 제한됨
+ * 3. 전용 writer 스레드가 큐를 모아 JDBC batch insert
+ * 4. 큐가 가득 차면 보내는 쪽 스레드가 직접 저장 (back-pressure)
+ * 5. 재시작 시 저널에 남은 메시지를 INSERT IGNORE 로 재적용 (중복 저장 없이 복구)
+ *    저장 실패는 일시적 오류(연결 끊김, 락 타임아웃 등)만 max-retries 까지 재시도하고,
+ *    그 밖의 오류나 재시도 초과 배치는 dead-letter 파일로 옮긴 뒤 다음 배치를 계속 처리
+ * 6. 채팅방 순번(room_seq)은 ChatRoomSequencer 가 발급해서 넘겨줌 (저장 결과가 확정되면 onSettled 로 알림)
+ *    같은 clientId 재전송은 보내기 전에 메모리(최근 창 / 저장 대기 목록 findPending)에서만 걸러 DB 조회 없음
+ *    그보다 오래된 재전송은 INSERT IGNORE 가 (chatroomid, client_id) 유니크 인덱스로 무시 → writer 가 원래 메시지로 되돌려 알림
+ *    무시된 행은 요약(안 읽은 수 등)에 반영하지 않음
+ *
+ * messageid / room_seq 를 메모리에서 발급하므로 단일 인스턴스 전용
+ * → 여러 노드로 fan-out 하는 브로커 모드(relay / cluster)와 함께 켜면 기동 시 거부
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriteBehind {
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO sutalk_chat_message
+                (messageid, chatroomid, sender_userid, message_content, sent_at, is_read, client_id, room_seq)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomSequencer roomSequencer;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${chat.write-behind.offer-timeout-ms:200}")
+    private long offerTimeoutMs;
+
+    @Value("${chat.write-behind.journal:chat-journal/pending.log}")
+    private String journalLocation;
+
+    @Value("${chat.write-behind.segment-max-messages:10000}")
+    private int segmentMaxMessages;
+
+    @Value("${chat.write-behind.fsync-interval-ms:50}")
+    private long fsyncIntervalMs;
+
+    @Value("${chat.write-behind.max-retries:20}")
+    private int maxRetries;
+
+    @Value("${chat.write-behind.dead-letter:chat-journal/dead-letter.log}")
+    private String deadLetterLocation;
+
+    private final AtomicLong idSequence = new AtomicLong();
+    // 아직 DB 저장이 확인되지 않은 메시지 "방:clientId" → 메시지 (최근 창에서 밀려난 재전송도 잡기 위함)
+    private final Map<String, PendingMessage> pendingByClientId = new ConcurrentHashMap<>();
+    private final Object journalLock = new Object();
+    private BlockingQueue<PendingMessage> queue;
+    private Path journalPath;
+    // 아래는 journalLock 으로 보호
+    private final TreeMap<Long, Segment> segments = new TreeMap<>(); // 첫 messageid → 세그먼트
+    private Segment current;
+    private FileChannel journalChannel;
+    private BufferedWriter journal;
+    private boolean unsynced; // 마지막 force 이후 기록이 있는지
+    private long lastSyncAt;
+    private Path deadLetterPath;
+    private volatile boolean running;
+    private Thread writer;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) return;
+        if (!"simple".equals(brokerMode)) {
+            throw new IllegalStateException("chat.write-behind.enabled 는 websocket.broker.mode=simple(단일 인스턴스)에서만 사용할 수 있습니다. "
+                    + "(현재: " + brokerMode + ")");
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        journalPath = Paths.get(System.getProperty("user.dir")).resolve(journalLocation).toAbsolutePath();
+        Files.createDirectories(journalPath.getParent());
+        deadLetterPath = Paths.get(System.getProperty("user.dir")).resolve(deadLetterLocation).toAbsolutePath();
+        Files.createDirectories(deadLetterPath.getParent());
+
+        long recoveredMaxId = recover();
+        Long dbMaxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(messageid), 0) FROM sutalk_chat_message", Long.class);
+        idSequence.set(Math.max(recoveredMaxId, dbMaxId != null ? dbMaxId : 0));
+
+        running = true;
+        writer = new Thread(this::runWriter, "chat-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        System.out.println("💾 [WriteBehind] 시작: 다음 messageid=" + (idSequence.get() + 1));
+    }
+
+    /** ✅ 저널(세그먼트 + 세그먼트 도입 전 단일 파일)에 남은 (저장 확인 전) 메시지 재적용 후 삭제 */
+    private long recover() throws IOException {
+        List<Path> files = journalFiles();
+        if (files.isEmpty()) return 0;
+
+        List<PendingMessage> pending = new ArrayList<>();
+        for (Path file : files) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) continue;
+                try {
+                    pending.add(objectMapper.readValue(line, PendingMessage.class));
+                } catch (IOException e) {
+                    // 마지막 줄이 쓰다 만 상태일 수 있음 → 건너뜀
+                    System.err.println("⚠️ [WriteBehind] 손상된 저널 라인 무시: " + e.getMessage());
+                }
+            }
+        }
+        pending.sort(Comparator.comparingLong(PendingMessage::getMessageId));
+        for (int i = 0; i < pending.size(); i += batchSize) {
+            List<PendingMessage> batch = pending.subList(i, Math.min(i + batchSize, pending.size()));
+            insertBatch(batch);
+            // ✅ 채팅방 요약도 재적용 (충돌 직전에 이미 반영된 메시지는 messageid 비교로 건너뜀)
+            // 충돌 전에 저장된 행도 포함해야 하므로 이번 INSERT 결과 대신 실제로 있는 행 기준
+            chatRoomSummaryService.onRecoveredMessages(storedOf(batch));
+        }
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+        if (!pending.isEmpty()) {
+            System.out.println("♻️ [WriteBehind] 저널 복구: " + pending.size() + "건");
+        }
+        return pending.stream().mapToLong(PendingMessage::getMessageId).max().orElse(0);
+    }
+
+    /** 기존 단일 저널 파일 + "{journal}.{첫 messageid}" 세그먼트, 기록 순서대로 */
+    private List<Path> journalFiles() throws IOException {
+        String prefix = journalPath.getFileName() + ".";
+        List<Path> files = new ArrayList<>();
+        if (Files.exists(journalPath)) files.add(journalPath);
+        try (Stream<Path> stream = Files.list(journalPath.getParent())) {
+            stream.filter(p -> p.getFileName().toString().startsWith(prefix))
+                    .filter(p -> p.getFileName().toString().substring(prefix.length()).matches("\\d+"))
+                    .sorted(Comparator.comparingLong(p -> Long.parseLong(p.getFileName().toString().substring(prefix.length()))))
+                    .forEach(files::add);
+        }
+        return files;
+    }
+
+    /**
+     * ✅ 메시지 접수: ID 발급 → 저널 기록 → 큐 적재
+     * 반환 시점에는 저널에 기록되어 있으므로 바로 브로드캐스트해도 안전
+     */
+    public PendingMessage submit(Long chatRoomId, String senderId, String content,
+                                 String clientId, LocalDateTime sentAt, long roomSeq) {
+        PendingMessage message;
+        synchronized (journalLock) {
+            message = new PendingMessage(idSequence.incrementAndGet(), chatRoomId, senderId, content, clientId, sentAt,
+                    roomSeq);
+            try {
+                if (current == null || current.lines >= segmentMaxMessages) {
+                    rotate(message.getMessageId());
+                }
+                journal.write(objectMapper.writeValueAsString(message));
+                journal.newLine();
+                journal.flush();
+                unsynced = true;
+                if (fsyncIntervalMs <= 0) {
+                    journalChannel.force(false);
+                    unsynced = false;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("채팅 저널 기록 실패: " + e.getMessage(), e);
+            }
+            current.lines++;
+            current.unflushed++;
+            if (clientId != null) {
+                pendingByClientId.put(clientKey(chatRoomId, clientId), message);
+            }
+        }
+
+        try {
+            if (!queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                // ✅ back-pressure: writer 가 밀려 있으면 호출 스레드가 직접 저장
+                List<PendingMessage> single = List.of(message);
+                updateSummaries(insertBatch(single));
+                onFlushed(single);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("채팅 메시지 저장 대기 중 인터럽트", e);
+        }
+        return message;
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                syncJournalIfDue();
+                PendingMessage first = queue.poll(Math.min(flushIntervalMs, Math.max(fsyncIntervalMs, 1)),
+                        TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                if (!running) break;
+            }
+        }
+        // 종료 시 남은 메시지 마저 저장
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) flushWithRetry(batch);
+    }
+
+    /**
+     * ✅ 배치 저장
+     * - 일시적 오류: max-retries 까지 백오프 재시도 (종료 중이면 저널에 남겨 다음 기동 시 복구)
+     * - 그 밖의 오류: 여러 건이면 한 건씩 다시 시도해서 문제 있는 메시지만 골라냄
+     * - 재시도 초과 / 한 건 단위 실패: dead-letter 파일로 옮기고 다음 배치 진행 (writer 가 멈추지 않도록)
+     */
+    private void flushWithRetry(List<PendingMessage> batch) {
+        long backoff = 100;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                updateSummaries(insertBatch(batch));
+                onFlushed(batch);
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("❌ [WriteBehind] 배치 저장 실패(" + batch.size() + "건, " + attempt + "회차): " + e.getMessage());
+                if (!running) return;
+                if (!isTransient(e)) {
+                    if (batch.size() > 1) {
+                        for (PendingMessage message : batch) {
+                            flushWithRetry(List.of(message));
+                        }
+                    } else {
+                        deadLetter(batch, e);
+                    }
+                    return;
+                }
+                if (attempt >= maxRetries) {
+                    deadLetter(batch, e);
+                    return;
+                }
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, 5_000);
+            }
+        }
+    }
+
+    /** 연결 끊김 / 락 타임아웃 / 데드락처럼 다시 시도하면 성공할 수 있는 오류 */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * ✅ 저장하지 못한 메시지를 dead-letter 파일에 남기고 저널에서는 정리
+     * (운영자가 원인 확인 후 수동 재적용, 파일 기록까지 실패하면 저널에 그대로 두어 다음 기동 때 재시도)
+     */
+    private void deadLetter(List<PendingMessage> batch, RuntimeException cause) {
+        try (FileChannel channel = FileChannel.open(deadLetterPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (PendingMessage message : batch) {
+                writer.write(objectMapper.writeValueAsString(message));
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(false);
+        } catch (IOException e) {
+            System.err.println("❌ [WriteBehind] dead-letter 기록 실패(" + batch.size() + "건, 저널에 유지): " + e.getMessage());
+            return;
+        }
+        onFlushed(batch);
+        System.err.println("☠️ [WriteBehind] 저장 포기 → dead-letter 이동 " + batch.size() + "건 (" + deadLetterPath + "): "
+                + cause.getMessage());
+    }
+
+    /** ✅ fsync-interval-ms 가 지났고 새로 기록한 줄이 있으면 저널 force (force 동안 submit 을 막지 않도록 락 밖에서) */
+    private void syncJournalIfDue() {
+        FileChannel channel;
+        synchronized (journalLock) {
+            if (!unsynced || journalChannel == null || fsyncIntervalMs <= 0) return;
+            if (System.currentTimeMillis() - lastSyncAt < fsyncIntervalMs) return;
+            channel = journalChannel;
+            unsynced = false;
+            lastSyncAt = System.currentTimeMillis();
+        }
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // 그 사이 세그먼트가 교체(교체 시 force) / 삭제(모두 저장됨)된 경우
+        } catch (IOException e) {
+            synchronized (journalLock) {
+                unsynced = true;
+            }
+            System.err.println("⚠️ [WriteBehind] 저널 fsync 실패: " + e.getMessage());
+        }
+    }
+
+    /** ✅ 같은 방에서 같은 clientId 로 접수됐지만 아직 저장이 확인되지 않은 메시지 */
+    public Optional<PendingMessage> findPending(Long chatRoomId, String clientId) {
+        if (!enabled || clientId == null) return Optional.empty();
+        return Optional.ofNullable(pendingByClientId.get(clientKey(chatRoomId, clientId)));
+    }
+
+    /** 배치 INSERT 후 실제로 들어간 행만 반환 (INSERT IGNORE 로 무시된 중복은 제외) */
+    private List<PendingMessage> insertBatch(List<PendingMessage> batch) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, m) -> {
+            ps.setLong(1, m.getMessageId());
+            ps.setLong(2, m.getChatRoomId());
+            ps.setString(3, m.getSenderId());
+            ps.setString(4, m.getContent());
+            ps.setTimestamp(5, Timestamp.valueOf(m.getSentAt()));
+            ps.setString(6, m.getClientId());
+            ps.setObject(7, m.getRoomSeq()); // 순번 도입 전 저널 라인은 null → 기동 시 순번 부여
+        });
+
+        int[] rows = Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+        List<PendingMessage> inserted;
+        if (Arrays.stream(rows).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            // 드라이버가 행별 결과를 주지 않으면 messageid 로 직접 확인 (새로 발급한 ID 라 있으면 이번에 들어간 행)
+            inserted = storedOf(batch);
+        } else {
+            inserted = new ArrayList<>(batch.size());
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] > 0) inserted.add(batch.get(i));
+            }
+        }
+        if (inserted.size() < batch.size()) {
+            System.err.println("⚠️ [WriteBehind] 중복으로 저장되지 않은 메시지 " + (batch.size() - inserted.size()) + "건 (요약 반영 제외)");
+            resolveIgnored(batch, inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * ✅ INSERT IGNORE 로 무시된 행 처리
+     * - 같은 messageid 가 이미 있음: 재기동 복구 중 충돌 직전에 저장됐던 행 → 할 일 없음
+     * - 같은 (방, clientId) 가 다른 messageid 로 저장돼 있음: 최근 창 / 저장 대기 목록보다 오래된 재전송
+     *   → 방금 브로드캐스트한 새 ID 대신 원래 메시지를 다시 알리고 최근 창에 기록 (프론트는 clientId 로 중복 제거)
+     *   새로 발급했던 순번은 빈 번호로 남음 (순번 구간 조회 결과에서 빠짐)
+     * 조회가 실패해도 예외를 던지지 않음 (배치 재시도 시 이번에 들어간 행이 무시된 행으로 보여 요약 반영이 빠지므로)
+     */
+    private void resolveIgnored(List<PendingMessage> batch, List<PendingMessage> inserted) {
+        try {
+            mapIgnoredToOriginals(batch, inserted);
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ [WriteBehind] 무시된 메시지 확인 실패: " + e.getMessage());
+        }
+    }
+
+    private void mapIgnoredToOriginals(List<PendingMessage> batch, List<PendingMessage> inserted) {
+        Set<Long> insertedIds = new HashSet<>();
+        inserted.forEach(m -> insertedIds.add(m.getMessageId()));
+        List<PendingMessage> ignored = batch.stream()
+                .filter(m -> !insertedIds.contains(m.getMessageId()) && m.getClientId() != null)
+                .toList();
+        if (ignored.isEmpty()) return;
+
+        Set<Long> alreadyStored = new HashSet<>();
+        storedOf(ignored).forEach(m -> alreadyStored.add(m.getMessageId()));
+        for (PendingMessage message : ignored) {
+            if (alreadyStored.contains(message.getMessageId())) continue;
+            MessageDTO original = chatMessageRepository.findByClientId(message.getChatRoomId(), message.getClientId())
+                    .orElse(null);
+            if (original == null) continue;
+            if (!original.getSenderId().equals(message.getSenderId())) {
+                System.err.println("⚠️ [WriteBehind] 다른 사용자가 이미 쓴 clientId 라 저장되지 않음: 방 "
+                        + message.getChatRoomId() + ", messageid " + message.getMessageId());
+                continue;
+            }
+            roomSequencer.rememberIfLoaded(message.getChatRoomId(), original);
+            messagingTemplate.convertAndSend("/topic/chat/" + message.getChatRoomId(), original);
+            System.out.println("🔁 [WriteBehind] 재전송 중복 → 원래 메시지로 대체: messageid " + message.getMessageId()
+                    + " → " + original.getMessageId());
+        }
+    }
+
+    /** 배치 중 DB 에 존재하는 메시지 */
+    private List<PendingMessage> storedOf(List<PendingMessage> batch) {
+        String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+        Set<Long> stored = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT messageid FROM sutalk_chat_message WHERE messageid IN (" + placeholders + ")",
+                Long.class, batch.stream().map(PendingMessage::getMessageId).toArray()));
+        return batch.stream().filter(m -> stored.contains(m.getMessageId())).toList();
+    }
+
+    /** 채팅방 목록 요약 갱신 (실패해도 메시지 저장은 유지, 요약만 다음 메시지에서 보정) */
+    private void updateSummaries(List<PendingMessage> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            chatRoomSummaryService.onMessages(batch);
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ [WriteBehind] 채팅방 요약 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    /** 새 세그먼트 시작 (journalLock 안에서 호출) */
+    private void rotate(long firstMessageId) throws IOException {
+        closeJournal(true);
+        Path path = journalPath.resolveSibling(journalPath.getFileName() + "." + firstMessageId);
+        journalChannel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        journal = new BufferedWriter(Channels.newWriter(journalChannel, StandardCharsets.UTF_8));
+        current = new Segment(path);
+        segments.put(firstMessageId, current);
+    }
+
+    /** 저장(또는 중복 무시 / dead-letter)이 확정된 메시지를 세그먼트별로 차감, 모두 저장된 세그먼트는 삭제 (쓰는 중인 세그먼트 포함) */
+    private void onFlushed(List<PendingMessage> flushed) {
+        synchronized (journalLock) {
+            Map<Long, Integer> settledByRoom = new HashMap<>();
+            for (PendingMessage message : flushed) {
+                Map.Entry<Long, Segment> entry = segments.floorEntry(message.getMessageId());
+                if (entry != null) entry.getValue().unflushed--;
+                if (message.getClientId() != null) {
+                    pendingByClientId.remove(clientKey(message.getChatRoomId(), message.getClientId()), message);
+                }
+                settledByRoom.merge(message.getChatRoomId(), 1, Integer::sum);
+            }
+            // 저장 결과가 확정된 순번 → 방 상태 정리 보류 해제
+            settledByRoom.forEach(roomSequencer::onSettled);
+            Iterator<Segment> it = segments.values().iterator();
+            while (it.hasNext()) {
+                Segment segment = it.next();
+                if (segment.unflushed > 0) continue;
+                try {
+                    if (segment == current) {
+                        closeJournal(false); // 모두 저장됐으므로 force 불필요
+                        current = null;
+                    }
+                    Files.deleteIfExists(segment.path);
+                    it.remove();
+                } catch (IOException e) {
+                    System.err.println("⚠️ [WriteBehind] 저널 세그먼트 정리 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** 쓰는 중인 세그먼트 닫기 (journalLock 안에서 호출, close 는 fsync 하지 않으므로 필요하면 먼저 force) */
+    private void closeJournal(boolean sync) throws IOException {
+        if (journal == null) return;
+        journal.flush();
+        if (sync && unsynced) journalChannel.force(false);
+        journal.close();
+        journal = null;
+        journalChannel = null;
+        unsynced = false;
+    }
+
+    private static String clientKey(Long chatRoomId, String clientId) {
+        return chatRoomId + ":" + clientId;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (!enabled || writer == null) return;
+        running = false;
+        writer.interrupt();
+        writer.join(10_000);
+        synchronized (journalLock) {
+            closeJournal(true);
+        }
+    }
+
+    /** 저널 세그먼트: 기록한 줄 수 / 아직 DB 저장이 확인되지 않은 줄 수 */
+    private static final class Segment {
+        private final Path path;
+        private int lines;
+        private int unflushed;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+    }
+
+    /** ✅ 저널/큐에 담기는 메시지 (JSON 한 줄로 저널에 기록) */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PendingMessage {
+        private long messageId;
+        private Long chatRoomId;
+        private String senderId;
+        private String content;
+        private String clientId;
+        private LocalDateTime sentAt;
+        private Long roomSeq;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sutalk.backend.domain.chat.service;
+
+import com.sutalk.backend.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 채팅방 참여자(buyer/seller) ID 캐시
+ * - 채팅방 참여자는 생성 후 바뀌지 않으므로 메시지마다 ChatRoom/User 를 조회할 필요 없음
+ * - 채팅방 삭제 시 evict
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantCache {
+
+    private static final int MAX_ROOMS = 10_000;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Map<Long, Participants> cache = new ConcurrentHashMap<>();
+
+    public Participants get(Long chatRoomId) {
+        Participants cached = cache.get(chatRoomId);
+        if (cached != null) return cached;
+
+        List<Object[]> rows = chatRoomRepository.findParticipantIds(chatRoomId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("채팅방을 찾을 수 없습니다.");
+        }
+        Participants participants = new Participants((String) rows.get(0)[0], (String) rows.get(0)[1]);
+
+        if (cache.size() >= MAX_ROOMS) {
+            cache.clear(); // 단순 상한: 다시 채워지는 비용이 작아 LRU 까지는 불필요
+        }
+        cache.put(chatRoomId, participants);
+        return participants;
+    }
+
+    public void evict(Long chatRoomId) {
+        cache.remove(chatRoomId);
+    }
+
+    public record Participants(String buyerId, String sellerId) {
+
+        public boolean contains(String userId) {
+            return userId != null && (userId.equals(buyerId) || userId.equals(sellerId));
+        }
+
+        public String other(String userId) {
+            return userId.equals(buyerId) ? sellerId : buyerId;
+        }
+    }
+}
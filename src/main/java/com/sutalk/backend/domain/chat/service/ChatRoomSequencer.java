@@ -0,0 +1,307 @@
+package com.sutalk.backend.domain.chat.service;
+
+import com.sutalk.backend.domain.chat.dto.MessageDTO;
+import com.sutalk.backend.domain.chat.repository.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * ✅ 채팅방별 메시지 순번(room_seq) 발급 + clientId 멱등 처리
+ * - 방마다 1부터 빈틈없이 증가하는 순번 → 클라이언트는 순번이 건너뛰면 빠진 구간만 다시 요청
+ * - 일반 저장: 방별 카운터 행(sutalk_chat_room_seq)을 메시지 INSERT 와 같은 트랜잭션에서 증가 (allocate)
+ *   → 카운터 행 잠금이 인스턴스가 여러 개여도 같은 방 발급을 커밋까지 줄 세우고, 롤백되면 순번도 되돌아감
+ * - write-behind: DB 저장 전에 순번이 필요하므로 메모리에서 발급 (nextSeq, 단일 인스턴스 전용 - ChatMessageWriteBehind 가 검사)
+ * - (chatroomid, room_seq) 유니크 제약이 어떤 경로든 중복 순번 저장을 막음
+ * - 최근 clientId 창(chat.sequence.recent-window) 으로 재전송을 저장 없이 걸러냄
+ *   (방 상태를 처음 올릴 때 DB 의 최근 메시지로 채우고, 창 밖 재전송은 (chatroomid, client_id) 유니크 인덱스가 막음
+ *    → write-behind 는 writer 가 무시된 행을 원래 메시지로 되돌려 알림 - ChatMessageWriteBehind)
+ * - 같은 방의 발급/저장/브로드캐스트는 방 상태 잠금 안에서 차례대로 → 브로드캐스트 순서 = 순번 순서
+ *   (잠금 안에서 JDBC 왕복을 하므로 synchronized 대신 ReentrantLock → 가상 스레드 채널 모드에서도 캐리어 스레드를 붙잡지 않음)
+ * - 한동안 쓰이지 않은 방 상태는 정리 (다음 메시지 때 DB 에서 다시 적재)
+ *   write-behind 로 발급했지만 아직 저장이 확인되지 않은 순번이 있는 방은 정리하지 않음
+ *   → DB 최대 순번으로 다시 적재하면서 이미 브로드캐스트한 순번을 재발급하는 일이 없도록 (DB 장애가 길어져도)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSequencer {
+
+    /** 순번 도입 전 메시지에 방별 순번 부여 (이미 순번이 있는 방은 그 뒤로 이어서) */
+    private static final String BACKFILL_SQL = """
+            UPDATE sutalk_chat_message m
+            JOIN (
+                SELECT n.messageid,
+                       COALESCE(x.max_seq, 0) + ROW_NUMBER() OVER (PARTITION BY n.chatroomid ORDER BY n.messageid) AS seq
+                FROM sutalk_chat_message n
+                LEFT JOIN (
+                    SELECT chatroomid, MAX(room_seq) AS max_seq FROM sutalk_chat_message
+                    WHERE room_seq IS NOT NULL GROUP BY chatroomid
+                ) x ON x.chatroomid = n.chatroomid
+                WHERE n.room_seq IS NULL
+            ) s ON s.messageid = m.messageid
+            SET m.room_seq = s.seq
+            """;
+
+    /**
+     * 유니크 제약 도입 전에 쌓인 같은 (방, clientId) 중복 메시지: 가장 먼저 저장된 것만 clientId 유지
+     * (나머지는 clientId 없는 구버전 메시지처럼 취급 → 메시지 자체는 그대로 남음)
+     */
+    private static final String CLEAR_DUPLICATE_CLIENT_IDS_SQL = """
+            UPDATE sutalk_chat_message m
+            JOIN (
+                SELECT chatroomid, client_id, MIN(messageid) AS keep_id
+                FROM sutalk_chat_message
+                WHERE client_id IS NOT NULL
+                GROUP BY chatroomid, client_id
+                HAVING COUNT(*) > 1
+            ) d ON d.chatroomid = m.chatroomid AND d.client_id = m.client_id
+            SET m.client_id = NULL
+            WHERE m.messageid <> d.keep_id
+            """;
+
+    private static final String INDEX_EXISTS_SQL = """
+            SELECT EXISTS(
+                SELECT 1 FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'sutalk_chat_message' AND index_name = ?
+            )
+            """;
+
+    /** 카운터 행 +1 후 그 값을 LAST_INSERT_ID 로 돌려받음 (행이 없으면 방의 현재 최대 순번 다음부터) */
+    private static final String ALLOCATE_SQL = """
+            INSERT INTO sutalk_chat_room_seq (chatroomid, last_seq)
+            VALUES (?, LAST_INSERT_ID((SELECT COALESCE(MAX(room_seq), 0) + 1 FROM sutalk_chat_message WHERE chatroomid = ?)))
+            ON DUPLICATE KEY UPDATE last_seq = LAST_INSERT_ID(last_seq + 1)
+            """;
+
+    /** 카운터를 메시지 최대 순번 이상으로 맞춤 (write-behind 로 메모리 발급한 순번 반영, 줄어들지는 않음) */
+    private static final String SYNC_COUNTERS_SQL = """
+            INSERT INTO sutalk_chat_room_seq (chatroomid, last_seq)
+            SELECT chatroomid, MAX(room_seq) FROM sutalk_chat_message
+            WHERE room_seq IS NOT NULL GROUP BY chatroomid
+            ON DUPLICATE KEY UPDATE last_seq = GREATEST(last_seq, VALUES(last_seq))
+            """;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.sequence.recent-window:64}")
+    private int recentWindow;
+
+    @Value("${chat.sequence.idle-evict-minutes:30}")
+    private long idleEvictMinutes;
+
+    private final Map<Long, RoomState> rooms = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void backfill() {
+        ensureUniqueClientIds();
+
+        Boolean missing = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM sutalk_chat_message WHERE room_seq IS NULL)", Boolean.class);
+        if (Boolean.TRUE.equals(missing)) {
+            int updated = jdbcTemplate.update(BACKFILL_SQL);
+            System.out.println("🔢 [ChatSequence] 기존 메시지 순번 부여: " + updated + "건");
+        }
+
+        ensureUniqueRoomSeq();
+        jdbcTemplate.update(SYNC_COUNTERS_SQL);
+    }
+
+    /** ✅ (chatroomid, room_seq) 유니크 제약 보장 (일반 인덱스였던 기존 DB 는 교체) */
+    private void ensureUniqueRoomSeq() {
+        if (!indexExists("uk_chat_message_room_seq")) {
+            jdbcTemplate.execute("ALTER TABLE sutalk_chat_message "
+                    + "ADD CONSTRAINT uk_chat_message_room_seq UNIQUE (chatroomid, room_seq)");
+            System.out.println("🔢 [ChatSequence] (chatroomid, room_seq) 유니크 제약 생성");
+        }
+        if (indexExists("idx_chat_message_room_seq")) {
+            jdbcTemplate.execute("ALTER TABLE sutalk_chat_message DROP INDEX idx_chat_message_room_seq");
+        }
+    }
+
+    /**
+     * ✅ (chatroomid, client_id) 유니크 제약 보장
+     * 기존 테이블에 중복이 있으면 스키마 갱신이 제약 생성에 실패하므로, 중복 정리 후 직접 생성
+     */
+    private void ensureUniqueClientIds() {
+        if (indexExists("uk_chat_message_room_client")) return;
+
+        int cleared = jdbcTemplate.update(CLEAR_DUPLICATE_CLIENT_IDS_SQL);
+        if (cleared > 0) {
+            System.out.println("🧹 [ChatSequence] 중복 clientId 정리: " + cleared + "건");
+        }
+        jdbcTemplate.execute("ALTER TABLE sutalk_chat_message "
+                + "ADD CONSTRAINT uk_chat_message_room_client UNIQUE (chatroomid, client_id)");
+        System.out.println("🔢 [ChatSequence] (chatroomid, client_id) 유니크 제약 생성");
+    }
+
+    private boolean indexExists(String indexName) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Boolean.class, indexName));
+    }
+
+    /**
+     * ✅ 방 상태 잠금 안에서 실행 (발급 → 저장 → 브로드캐스트를 한 번에)
+     * 정리 작업과 엇갈려 버려진 상태를 잡았으면 새 상태로 다시 시도
+     */
+    public <T> T withRoom(Long chatRoomId, Function<RoomState, T> action) {
+        while (true) {
+            RoomState state = stateOf(chatRoomId);
+            state.lock.lock();
+            try {
+                if (state.evicted) continue;
+                state.lastUsedAt = System.currentTimeMillis();
+                return action.apply(state);
+            } finally {
+                state.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * ✅ 일반 저장용 순번 발급: 메시지 INSERT 와 같은 트랜잭션 안에서 호출
+     * 카운터 행은 커밋까지 잠겨 다른 인스턴스의 같은 방 발급이 기다리고, 롤백되면 증가도 취소됨
+     */
+    public long allocate(Long chatRoomId) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(ALLOCATE_SQL)) {
+                ps.setLong(1, chatRoomId);
+                ps.setLong(2, chatRoomId);
+                ps.executeUpdate();
+            }
+            try (Statement st = con.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT LAST_INSERT_ID()")) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+    }
+
+    /**
+     * 방 상태 조회, 없으면 적재
+     * DB 조회를 computeIfAbsent 안에서 하면 같은 해시 버킷의 다른 방까지 조회가 끝날 때까지 막히므로
+     * 밖에서 적재 후 putIfAbsent (동시에 적재했다면 먼저 들어간 상태 사용, 저장 확인 전 순번이 있는 방은 정리되지 않으므로 DB 값으로 충분)
+     */
+    private RoomState stateOf(Long chatRoomId) {
+        RoomState state = rooms.get(chatRoomId);
+        if (state != null) return state;
+        RoomState loaded = load(chatRoomId);
+        RoomState existing = rooms.putIfAbsent(chatRoomId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * ✅ write-behind 순번의 DB 저장 결과가 확정됨 (저장 / 중복으로 무시 / dead-letter)
+     * writer 스레드가 저널 잠금 안에서 호출하므로 방 잠금을 잡지 않음
+     */
+    public void onSettled(Long chatRoomId, int count) {
+        RoomState state = rooms.get(chatRoomId);
+        if (state != null) {
+            state.unsaved.updateAndGet(n -> Math.max(0, n - count));
+        }
+    }
+
+    /**
+     * ✅ 최근 창 밖 재전송이 저장 단계에서 걸러졌을 때 원래 메시지를 창에 기록 (다음 재전송은 창에서 바로 처리)
+     * 방이 사용 중이면 기다리지 않고 건너뜀 (창은 최적화일 뿐, 다시 걸러져도 결과는 같음)
+     */
+    public void rememberIfLoaded(Long chatRoomId, MessageDTO message) {
+        RoomState state = rooms.get(chatRoomId);
+        if (state == null || !state.lock.tryLock()) return;
+        try {
+            if (!state.evicted) state.remember(message);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /** 마지막 순번 + 최근 clientId 창을 DB 에서 적재 */
+    private RoomState load(Long chatRoomId) {
+        Long maxSeq = chatMessageRepository.findMaxRoomSeq(chatRoomId);
+        RoomState state = new RoomState(maxSeq != null ? maxSeq : 0, recentWindow);
+        List<MessageDTO> recent = chatMessageRepository.findRecentWithClientId(chatRoomId, PageRequest.of(0, recentWindow));
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            state.remember(recent.get(i));
+        }
+        return state;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.sequence.evict-interval-ms:300000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleEvictMinutes * 60_000;
+        rooms.forEach((roomId, state) -> {
+            // 사용 중인 방은 기다리지 않고 건너뜀 (방금 쓰였으므로 정리 대상도 아님)
+            if (!state.lock.tryLock()) return;
+            try {
+                // 저장 확인 전 순번이 남은 방은 유지 (nextSeq 도 이 잠금 안에서만 증가하므로 확인 후 끼어들 수 없음)
+                if (state.lastUsedAt < cutoff && state.unsaved.get() == 0 && rooms.remove(roomId, state)) {
+                    state.evicted = true;
+                }
+            } finally {
+                state.lock.unlock();
+            }
+        });
+    }
+
+    /** ✅ 방 하나의 순번/최근 창 (withRoom 잠금 안에서만 접근) */
+    public static final class RoomState {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long lastSeq;
+        private final Map<String, MessageDTO> recent;
+        private long lastUsedAt = System.currentTimeMillis();
+        private boolean evicted;
+        // write-behind 로 발급했지만 DB 저장 결과가 아직 확정되지 않은 순번 수 (writer 가 잠금 없이 차감)
+        private final AtomicInteger unsaved = new AtomicInteger();
+
+        private RoomState(long lastSeq, int window) {
+            this.lastSeq = lastSeq;
+            this.recent = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, MessageDTO> eldest) {
+                    return size() > window;
+                }
+            };
+        }
+
+        /** 같은 clientId 로 최근에 보낸 메시지 (clientId 없는 구버전 클라이언트는 항상 null) */
+        public MessageDTO findRecent(String clientId) {
+            return clientId == null ? null : recent.get(clientId);
+        }
+
+        /** write-behind 전용 메모리 발급 (일반 저장은 allocate), 저장이 확인될 때까지 방 상태 정리 보류 */
+        public long nextSeq() {
+            unsaved.incrementAndGet();
+            return ++lastSeq;
+        }
+
+        /** 저널 기록 실패 시 방금 발급한 순번 반납 (잠금 안이므로 그 사이 다른 발급 없음) */
+        public void release(long seq) {
+            if (lastSeq == seq) {
+                lastSeq--;
+                unsaved.decrementAndGet();
+            }
+        }
+
+        public void remember(MessageDTO message) {
+            if (message.getClientId() != null) {
+                recent.put(message.getClientId(), message);
+            }
+        }
+    }
+}
@@ -3,8 +3,12 @@ package com.sutalk.backend.domain.chat.service;
 import com.sutalk.backend.domain.chat.dto.ChatRoomMapper;
 import com.sutalk.backend.domain.chat.dto.ChatRoomResponseDTO;
 import com.sutalk.backend.domain.chat.entity.ChatRoom;
+import com.sutalk.backend.domain.chat.entity.ChatRoomSummary;
 import com.sutalk.backend.domain.chat.repository.ChatMessageRepository;
+import com.sutalk.backend.domain.chat.repository.ChatReadStateRepository;
 import com.sutalk.backend.domain.chat.repository.ChatRoomRepository;
+import com.sutalk.backend.domain.chat.repository.ChatRoomSummaryRepository;
+import com.sutalk.backend.domain.item.repository.ItemImageRepository;
 import com.sutalk.backend.domain.item.entity.Item;
 import com.sutalk.backend.domain.transaction.entity.ItemTransaction;
 import com.sutalk.backend.domain.transaction.repository.ItemTransactionRepository;
@@ -14,8 +18,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +29,11 @@ public class ChatRoomService {
     private final ItemTransactionRepository itemTransactionRepository;
     private final UserRepository userRepository;
     private final ChatRoomMapper chatRoomMapper;
+    private final ChatRoomParticipantCache participantCache;
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ItemImageRepository itemImageRepository;
 
     /**
      * ✅ 거래 기반 채팅방 생성 (거래 없을 시 자동 생성)
@@ -70,38 +78,42 @@ public class ChatRoomService {
                             .createdAt(System.currentTimeMillis())
                             .build());
                 });
+        ensureSummary(room);
 
         return chatRoomMapper.toDto(room);
     }
 
     /**
-     * ✅ 유저의 모든 채팅방 목록 조회
+     * ✅ 유저의 모든 채팅방 목록 조회 (최근 활동순)
+     * 요약 테이블 1회 조회(fetch join) + 상품 이미지 1회 일괄 조회
      */
     public List<ChatRoomResponseDTO> getChatRoomsByUser(String userId) {
-        List<ChatRoom> rooms = chatRoomRepository.findByBuyer_UseridOrSeller_Userid(userId, userId);
-
-        return rooms.stream()
-                .map(room -> {
-                    Item item = (room.getItemTransaction() != null) ? room.getItemTransaction().getItem() : null;
-                    List<String> itemImages = (item != null && item.getItemImages() != null)
-                            ? item.getItemImages().stream().map(i -> i.getPhotoPath()).toList()
-                            : List.of();
-
-                    return ChatRoomResponseDTO.builder()
-                            .chatroomId(room.getChatroomid())
-                            .itemId(item != null ? item.getItemid() : null)
-                            .itemTitle(item != null ? item.getTitle() : "상품명 없음")
-                            .meetLocation(item != null ? item.getMeetLocation() : null)
-                            .itemImages(itemImages)
-                            .roomType(room.getRoomType())
-                            .buyerId(room.getBuyer() != null ? room.getBuyer().getUserid() : null)
-                            .buyerUsername(room.getBuyer() != null ? room.getBuyer().getName() : null)
-                            .sellerId(room.getSeller() != null ? room.getSeller().getUserid() : null)
-                            .sellerUsername(room.getSeller() != null ? room.getSeller().getName() : null)
-                            .createdAt(room.getCreatedAt())
-                            .build();
+        List<ChatRoomSummary> summaries = chatRoomSummaryRepository.findRoomListByUserId(userId);
+
+        Set<Long> itemIds = new HashSet<>();
+        for (ChatRoomSummary summary : summaries) {
+            ItemTransaction tx = summary.getChatRoom().getItemTransaction();
+            if (tx != null && tx.getItem() != null) itemIds.add(tx.getItem().getItemid());
+        }
+        Map<Long, List<String>> imagesByItem = new HashMap<>();
+        if (!itemIds.isEmpty()) {
+            for (Object[] row : itemImageRepository.findPhotoPathsByItemIds(itemIds)) {
+                imagesByItem.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        return summaries.stream()
+                .map(summary -> {
+                    ItemTransaction tx = summary.getChatRoom().getItemTransaction();
+                    Long itemId = (tx != null && tx.getItem() != null) ? tx.getItem().getItemid() : null;
+                    return chatRoomMapper.toListDto(summary, itemId != null ? imagesByItem.get(itemId) : List.of());
                 })
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    private void ensureSummary(ChatRoom room) {
+        chatRoomSummaryService.ensure(room.getChatroomid(),
+                room.getBuyer().getUserid(), room.getSeller().getUserid(), room.getCreatedAt());
     }
 
     /**
@@ -121,8 +133,11 @@ public class ChatRoomService {
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
 
         chatMessageRepository.deleteAllByChatRoom_Chatroomid(chatRoomId);
+        chatReadStateRepository.deleteByChatRoomId(chatRoomId);
+        chatRoomSummaryService.deleteByChatRoom(chatRoomId);
         chatRoom.setItemTransaction(null);
         chatRoomRepository.delete(chatRoom);
+        participantCache.evict(chatRoomId);
     }
 
     /**
@@ -188,6 +203,7 @@ public class ChatRoomService {
                         .roomType("FRIEND")
                         .createdAt(System.currentTimeMillis())
                         .build()));
+        ensureSummary(room);
 
         return chatRoomMapper.toDto(room);
     }
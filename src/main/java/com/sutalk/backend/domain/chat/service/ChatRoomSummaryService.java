@@ -0,0 +1,139 @@
+package com.sutalk.backend.domain.chat.service;
+
+import com.sutalk.backend.domain.chat.entity.ChatRoomSummary;
+import com.sutalk.backend.domain.chat.repository.ChatRoomSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * ✅ 채팅방 목록 요약(sutalk_chat_room_summary) 유지
+ * - 전송: 마지막 메시지 갱신 + 상대방 안 읽은 수 +1 (단일 UPDATE)
+ * - 읽음: 새로 읽은 수만큼 차감
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSummaryService {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    private static final String ON_MESSAGE_SQL = """
+            UPDATE sutalk_chat_room_summary
+            SET last_messageid = ?, last_message = ?, last_message_at = ?, last_activity_at = ?,
+                unread_count = unread_count + CASE WHEN userid = ? THEN 0 ELSE 1 END
+            WHERE chatroomid = ?
+            """;
+
+    /** 저널 재적용용: 요약에 이미 반영된 메시지(last_messageid 이하)는 건너뜀 → 여러 번 적용해도 결과 동일 */
+    private static final String ON_RECOVERED_MESSAGE_SQL = """
+            UPDATE sutalk_chat_room_summary
+            SET last_messageid = ?, last_message = ?, last_message_at = ?, last_activity_at = ?,
+                unread_count = unread_count + CASE WHEN userid = ? THEN 0 ELSE 1 END
+            WHERE chatroomid = ? AND (last_messageid IS NULL OR last_messageid < ?)
+            """;
+
+    /** 요약 행이 없는 기존 채팅방(buyer/seller 각각) 채우기: 마지막 메시지 + 안 읽은 수 계산 */
+    private static final String BACKFILL_SQL = """
+            INSERT INTO sutalk_chat_room_summary
+                (chatroomid, userid, last_messageid, last_message, last_message_at, last_activity_at, unread_count)
+            SELECT p.chatroomid, p.userid, lm.messageid, LEFT(lm.message_content, 100), lm.sent_at,
+                   COALESCE(lm.sent_at, FROM_UNIXTIME(p.created_at / 1000), NOW()),
+                   (SELECT COUNT(*) FROM sutalk_chat_message m
+                     WHERE m.chatroomid = p.chatroomid AND m.sender_userid <> p.userid AND m.is_read = false)
+            FROM (SELECT chatroomid, buyer_userid AS userid, created_at FROM sutalk_chat_room
+                  UNION
+                  SELECT chatroomid, seller_userid AS userid, created_at FROM sutalk_chat_room) p
+            LEFT JOIN sutalk_chat_message lm
+                   ON lm.messageid = (SELECT MAX(messageid) FROM sutalk_chat_message WHERE chatroomid = p.chatroomid)
+            WHERE NOT EXISTS (SELECT 1 FROM sutalk_chat_room_summary s
+                              WHERE s.chatroomid = p.chatroomid AND s.userid = p.userid)
+            """;
+
+    private final ChatRoomSummaryRepository summaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** ✅ 기존 채팅방 요약 일괄 생성 (이미 있는 행은 건너뜀) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int inserted = jdbcTemplate.update(BACKFILL_SQL);
+        if (inserted > 0) {
+            System.out.println("📋 [ChatRoomSummary] 요약 생성: " + inserted + "건");
+        }
+    }
+
+    /** ✅ 채팅방 생성 시 양쪽 참여자 요약 행 생성 */
+    @Transactional
+    public void ensure(Long chatRoomId, String buyerId, String sellerId, Long createdAt) {
+        LocalDateTime activityAt = createdAt != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZoneId.systemDefault())
+                : LocalDateTime.now();
+        for (String userId : List.of(buyerId, sellerId)) {
+            if (summaryRepository.existsByChatRoomIdAndUserId(chatRoomId, userId)) continue;
+            summaryRepository.save(ChatRoomSummary.builder()
+                    .chatRoomId(chatRoomId)
+                    .userId(userId)
+                    .lastActivityAt(activityAt)
+                    .unreadCount(0)
+                    .build());
+        }
+    }
+
+    /** ✅ 메시지 1건 반영 */
+    public void onMessage(Long chatRoomId, String senderId, String content, LocalDateTime sentAt, Long messageId) {
+        Timestamp at = Timestamp.valueOf(sentAt);
+        jdbcTemplate.update(ON_MESSAGE_SQL, messageId, preview(content), at, at, senderId, chatRoomId);
+    }
+
+    /** ✅ write-behind 배치 반영 (메시지 순서대로 JDBC batch) */
+    public void onMessages(List<ChatMessageWriteBehind.PendingMessage> messages) {
+        jdbcTemplate.batchUpdate(ON_MESSAGE_SQL, messages, messages.size(), (ps, m) -> {
+            Timestamp at = Timestamp.valueOf(m.getSentAt());
+            ps.setLong(1, m.getMessageId());
+            ps.setString(2, preview(m.getContent()));
+            ps.setTimestamp(3, at);
+            ps.setTimestamp(4, at);
+            ps.setString(5, m.getSenderId());
+            ps.setLong(6, m.getChatRoomId());
+        });
+    }
+
+    /** ✅ 저널 재적용분 반영 (messageid 오름차순으로 넘겨야 함, 이미 반영된 메시지는 건너뜀) */
+    public void onRecoveredMessages(List<ChatMessageWriteBehind.PendingMessage> messages) {
+        jdbcTemplate.batchUpdate(ON_RECOVERED_MESSAGE_SQL, messages, messages.size(), (ps, m) -> {
+            Timestamp at = Timestamp.valueOf(m.getSentAt());
+            ps.setLong(1, m.getMessageId());
+            ps.setString(2, preview(m.getContent()));
+            ps.setTimestamp(3, at);
+            ps.setTimestamp(4, at);
+            ps.setString(5, m.getSenderId());
+            ps.setLong(6, m.getChatRoomId());
+            ps.setLong(7, m.getMessageId());
+        });
+    }
+
+    /** ✅ 읽음 반영 */
+    @Transactional
+    public void onRead(Long chatRoomId, String readerId, int readCount) {
+        if (readCount <= 0) return;
+        summaryRepository.decreaseUnread(chatRoomId, readerId, readCount);
+    }
+
+    @Transactional
+    public void deleteByChatRoom(Long chatRoomId) {
+        summaryRepository.deleteByChatRoomId(chatRoomId);
+    }
+
+    private String preview(String content) {
+        if (content == null) return null;
+        return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
+    }
+}
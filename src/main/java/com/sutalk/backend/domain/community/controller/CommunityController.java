@@ -3,6 +3,8 @@ package com.sutalk.backend.domain.community.controller;
 import com.sutalk.backend.domain.community.dto.CommentDTO;
 import com.sutalk.backend.domain.community.dto.PostDTO;
 import com.sutalk.backend.domain.community.service.CommunityService;
+import com.sutalk.backend.domain.like.dto.LikeStatusRequestDTO;
+import com.sutalk.backend.global.storage.UploadStorageService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -20,13 +22,15 @@ import java.util.Map;
 public class CommunityController {
 
     private final CommunityService communityService;
+    private final UploadStorageService uploadStorageService;
 
     @PostMapping(value = "/posts", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PostDTO.Response> createPost(
             @RequestPart("post") PostDTO.CreateRequest dto,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        PostDTO.Response createdPost = communityService.createPostWithImages(dto, images);
+        // ✅ 파일 저장은 트랜잭션 밖에서 먼저 (디스크 I/O 동안 DB 커넥션 점유 방지)
+        PostDTO.Response createdPost = communityService.createPostWithImages(dto, uploadStorageService.storeAll(images));
         return ResponseEntity.status(HttpStatus.CREATED).body(createdPost);
     }
 
@@ -36,8 +40,16 @@ public class CommunityController {
     }
 
     @GetMapping("/posts/hot")
-    public ResponseEntity<List<PostDTO.Response>> getHotPosts() {
-        return ResponseEntity.ok(communityService.getHotPosts());
+    public ResponseEntity<List<PostDTO.Response>> getHotPosts(@RequestParam(required = false) String category) {
+        return ResponseEntity.ok(communityService.getHotPosts(category));
+    }
+
+    // ✅ 커서 기반 피드 (cursor 미지정 시 최신 페이지, category 선택)
+    @GetMapping("/posts/feed")
+    public ResponseEntity<PostDTO.FeedResponse> getFeed(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(communityService.getFeed(cursor, size, category));
     }
 
     @GetMapping("/posts/category/{category}")
@@ -112,6 +124,12 @@ public class CommunityController {
 
     }
 
+    // 여러 게시글의 좋아요 여부 일괄 조회 (postId → liked)
+    @PostMapping("/posts/like-status")
+    public ResponseEntity<Map<Long, Boolean>> getLikeStatuses(@RequestBody LikeStatusRequestDTO request) {
+        return ResponseEntity.ok(communityService.getLikeStatuses(request.getUserId(), request.getIds()));
+    }
+
     @GetMapping("/{userId}/likeList")
     public ResponseEntity<List<PostDTO.Response>> getLikedPosts(@PathVariable String userId) {
         return ResponseEntity.ok(communityService.getLikedPostsByUser(userId));
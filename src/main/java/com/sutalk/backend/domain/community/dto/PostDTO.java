@@ -40,6 +40,13 @@ public class PostDTO {
         private String thumbnailUrl;
 
         public Response(CommunityPost post) {
+            this(post, post.getImages().stream()
+                    .map(CommunityPostImage::getPhotoPath)
+                    .collect(Collectors.toList()));
+        }
+
+        /** ✅ 이미지 경로를 일괄 조회해 넘겨받는 목록용 생성자 (이미지 지연 로딩 없음) */
+        public Response(CommunityPost post, List<String> images) {
             this.id = post.getId();
             this.title = post.getTitle();
             this.content = post.getContent();
@@ -52,10 +59,8 @@ public class PostDTO {
             this.category = post.getCategory();
             this.createdAt = post.getCreatedAt();
             this.likes = post.getLikes();
-            this.commentsCount = post.getComments() != null ? post.getComments().size() : 0;
-            this.images = post.getImages().stream()
-                    .map(CommunityPostImage::getPhotoPath)
-                    .collect(Collectors.toList());
+            this.commentsCount = post.getCommentCount();
+            this.images = images != null ? images : List.of();
             // ✅ 썸네일 URL 로직 추가 (이미지 리스트의 첫 번째 항목을 사용)
             this.thumbnailUrl = (this.images != null && !this.images.isEmpty())
                     ? this.images.get(0)
@@ -63,6 +68,16 @@ public class PostDTO {
         }
     }
 
+    /** ✅ 커뮤니티 피드 페이지 (nextCursor 를 다음 요청의 cursor 로 그대로 전달) */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeedResponse {
+        private List<Response> posts;
+        private String nextCursor;
+        private boolean hasMore;
+    }
+
     @Data
     @NoArgsConstructor
     public static class DetailResponse {
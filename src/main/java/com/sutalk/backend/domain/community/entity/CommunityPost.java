@@ -19,7 +19,10 @@ import jakarta.persistence.Enumerated;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "sutalk_community_post")
+@Table(name = "sutalk_community_post", indexes = {
+        @Index(name = "idx_community_post_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_community_post_category_created_id", columnList = "category, created_at, id")
+})
 public class CommunityPost {
 
     @Id
@@ -43,9 +46,14 @@ public class CommunityPost {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
-    @Column(nullable = false)
+    // ✅ 비정규화 좋아요 수: LikeCounterService 가 "likes + ?" 로만 갱신 (엔티티 flush 로 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     private int likes = 0;
 
+    // ✅ 비정규화 댓글 수: 댓글 작성/삭제 시 "comment_count + ?" 로만 갱신 (목록에서 댓글 컬렉션 로딩 불필요)
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int commentCount = 0;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt DESC")
     private List<Comment> comments = new ArrayList<>();
@@ -2,6 +2,16 @@ package com.sutalk.backend.domain.community.repository;
 
 import com.sutalk.backend.domain.community.entity.CommunityPostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CommunityPostImageRepository extends JpaRepository<CommunityPostImage, Long> {
+
+    // ✅ 여러 게시글의 이미지 경로를 한 번에 조회 (등록순) → [postId, photoPath]
+    @Query("SELECT img.post.id, img.photoPath FROM CommunityPostImage img " +
+            "WHERE img.post.id IN :postIds ORDER BY img.id")
+    List<Object[]> findPhotoPathsByPostIds(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
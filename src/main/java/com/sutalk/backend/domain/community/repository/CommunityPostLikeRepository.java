@@ -4,12 +4,18 @@ import com.sutalk.backend.domain.community.entity.CommunityPost;
 import com.sutalk.backend.domain.community.entity.CommunityPostLike;
 import com.sutalk.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CommunityPostLikeRepository extends JpaRepository<CommunityPostLike, Long> {
     boolean existsByUserAndPost(User user, CommunityPost post);
-    void deleteByUserAndPost(User user, CommunityPost post);
+    long deleteByUserAndPost(User user, CommunityPost post);
     long countByPost(CommunityPost post);
     List<CommunityPostLike> findByUser_Userid(String userId);
+
+    // ✅ 좋아요 비트맵 적재용: 유저가 좋아요 누른 게시글 ID만 조회
+    @Query("SELECT pl.post.id FROM CommunityPostLike pl WHERE pl.user.userid = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") String userId);
 }
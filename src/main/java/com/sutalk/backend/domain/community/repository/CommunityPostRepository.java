@@ -3,16 +3,59 @@ package com.sutalk.backend.domain.community.repository;
 import com.sutalk.backend.domain.community.entity.CommunityPost;
 import com.sutalk.backend.domain.community.entity.PostCategory;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommunityPostRepository extends JpaRepository<CommunityPost, Long> {
 
-    // ✅ 댓글까지 함께 로드하면서 최신순 정렬
-    @EntityGraph(attributePaths = "comments")
+    // ✅ 작성자만 함께 로드 (댓글 수는 comment_count 컬럼 사용)
+    @EntityGraph(attributePaths = "author")
     List<CommunityPost> findAllByOrderByCreatedAtDesc();
 
+    @EntityGraph(attributePaths = "author")
     List<CommunityPost> findByCategoryOrderByCreatedAtDesc(PostCategory category);
 
-    List<CommunityPost> findByLikesGreaterThanEqualOrderByCreatedAtDesc(int likes);
+    // ✅ 인기글 랭킹 재구성용 점수 재료만 조회 → [id, category, createdAt, likes, commentCount]
+    @Query("SELECT p.id, p.category, p.createdAt, p.likes, p.commentCount FROM CommunityPost p")
+    List<Object[]> findRankingStats();
+
+    // ✅ 피드 1단계: (createdAt, id) 키셋으로 게시글 ID만 조회
+    @Query("""
+        SELECT p.id FROM CommunityPost p
+        WHERE (:category IS NULL OR p.category = :category)
+          AND (:cursorCreatedAt IS NULL
+               OR p.createdAt < :cursorCreatedAt
+               OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<Long> findFeedIds(@Param("category") PostCategory category,
+                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                           @Param("cursorId") Long cursorId,
+                           Pageable pageable);
+
+    // ✅ 피드 2단계: 작성자 함께 일괄 로딩
+    @Query("SELECT p FROM CommunityPost p JOIN FETCH p.author WHERE p.id IN :ids")
+    List<CommunityPost> findAllWithAuthorByIdIn(@Param("ids") List<Long> ids);
+
+    // ✅ 댓글 수 증감 (원자적 UPDATE)
+    @Modifying
+    @Query("UPDATE CommunityPost p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // ✅ 댓글 수 보정 (댓글 테이블 기준, 어긋난 행만)
+    @Modifying
+    @Query(value = """
+        UPDATE sutalk_community_post p
+        LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM sutalk_comment GROUP BY post_id) c
+               ON c.post_id = p.id
+        SET p.comment_count = COALESCE(c.cnt, 0)
+        WHERE p.comment_count <> COALESCE(c.cnt, 0)
+    """, nativeQuery = true)
+    int reconcileCommentCounts();
 }
@@ -12,21 +12,28 @@ import com.sutalk.backend.domain.community.repository.CommunityPostLikeRepositor
 import com.sutalk.backend.domain.user.entity.User;
 import com.sutalk.backend.domain.community.repository.CommentRepository;
 import com.sutalk.backend.domain.community.repository.CommunityPostRepository;
+import com.sutalk.backend.domain.like.service.LikeCounterService;
+import com.sutalk.backend.domain.like.service.UserLikeCache;
 import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.global.storage.UploadStorageService.StoredFile;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
-import java.util.UUID;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,13 +45,17 @@ public class CommunityService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final CommunityPostLikeRepository postLikeRepository;
+    private final LikeCounterService likeCounterService;
+    private final UserLikeCache userLikeCache;
+    private final HotPostRanking hotPostRanking;
+
+    private static final int MAX_STATUS_IDS = 200;
+    private static final int MAX_FEED_SIZE = 50;
 
     private final CommunityPostImageRepository postImageRepository; // ✅ ADD: 이미지 리포지토리 주입
-    // ✅ ADD: ItemService에서 파일 저장 경로 로직 가져옴
-    private final Path UPLOAD_ROOT = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath();
 
     @Transactional
-    public PostDTO.Response createPostWithImages(PostDTO.CreateRequest dto, List<MultipartFile> images) {
+    public PostDTO.Response createPostWithImages(PostDTO.CreateRequest dto, List<StoredFile> images) {
         User author = userRepository.findById(dto.getAuthorId())
                 .orElseThrow(() -> new RuntimeException("작성자를 찾을 수 없습니다."));
 
@@ -56,32 +67,95 @@ public class CommunityService {
 
         savePostImages(images, newPost);
         CommunityPost savedPost = postRepository.save(newPost);
-        return new PostDTO.Response(savedPost);
+        PostDTO.Response response = new PostDTO.Response(savedPost);
+        hotPostRanking.recordAfterCommit(response, 0, 0);
+        return response;
     }
 
     public List<PostDTO.Response> getNewPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc().stream()
-                .map(PostDTO.Response::new)
-                .collect(Collectors.toList());
+        return toResponses(postRepository.findAllByOrderByCreatedAtDesc());
     }
 
-    public List<PostDTO.Response> getHotPosts() {
-        return postRepository.findByLikesGreaterThanEqualOrderByCreatedAtDesc(1).stream()
-                .map(PostDTO.Response::new)
-                .collect(Collectors.toList());
+    /** ✅ 인기글: 메모리 랭킹에서 바로 응답 (DB 조회 없음) */
+    public List<PostDTO.Response> getHotPosts(String category) {
+        PostCategory postCategory = StringUtils.hasText(category)
+                ? PostCategory.valueOf(category.toUpperCase())
+                : null;
+        return hotPostRanking.top(postCategory, hotPostRanking.getCapacity());
+    }
+
+    /**
+     * ✅ 인기글 랭킹 재구성 (기동 시 + 주기적)
+     * 점수 재료만 전체 조회해 카테고리별 상위 N개를 고른 뒤, 그 글들만 작성자/이미지와 함께 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    @Scheduled(cron = "${community.hot.rebuild-cron:0 0 * * * *}")
+    public void rebuildHotPosts() {
+        long begin = System.currentTimeMillis();
+        List<Long> ids = List.copyOf(hotPostRanking.selectTopIds(postRepository.findRankingStats()));
+        List<CommunityPost> posts = ids.isEmpty() ? List.of() : postRepository.findAllWithAuthorByIdIn(ids);
+        hotPostRanking.replaceAll(toResponses(posts));
+        System.out.println("🔥 [HotPosts] 랭킹 재구성: " + posts.size() + "건, "
+                + (System.currentTimeMillis() - begin) + "ms");
     }
 
     public List<PostDTO.Response> getPostsByCategory(String category) {
         PostCategory postCategory = PostCategory.valueOf(category.toUpperCase());
-        return postRepository.findByCategoryOrderByCreatedAtDesc(postCategory).stream()
-                .map(PostDTO.Response::new)
-                .collect(Collectors.toList());
+        return toResponses(postRepository.findByCategoryOrderByCreatedAtDesc(postCategory));
+    }
+
+    /** ✅ 커서 기반 커뮤니티 피드 (1단계: 키셋으로 ID 조회 → 2단계: 작성자/이미지 일괄 로딩) */
+    public PostDTO.FeedResponse getFeed(String cursor, int size, String category) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (StringUtils.hasText(cursor)) {
+            int sep = cursor.lastIndexOf('_');
+            try {
+                cursorCreatedAt = LocalDateTime.parse(cursor.substring(0, sep));
+                cursorId = Long.parseLong(cursor.substring(sep + 1));
+            } catch (DateTimeParseException | NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+            }
+        }
+        PostCategory categoryFilter = StringUtils.hasText(category)
+                ? PostCategory.valueOf(category.toUpperCase())
+                : null;
+
+        // ✅ 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Long> ids = postRepository.findFeedIds(
+                categoryFilter, cursorCreatedAt, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+        if (ids.isEmpty()) {
+            return new PostDTO.FeedResponse(List.of(), null, false);
+        }
+
+        Map<Long, CommunityPost> postsById = postRepository.findAllWithAuthorByIdIn(ids).stream()
+                .collect(Collectors.toMap(CommunityPost::getId, post -> post));
+
+        // ✅ IN 조회는 순서를 보장하지 않으므로 키셋 순서대로 재정렬
+        List<CommunityPost> posts = ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        CommunityPost last = postsById.get(ids.get(ids.size() - 1));
+        String nextCursor = (hasMore && last != null) ? last.getCreatedAt() + "_" + last.getId() : null;
+        return new PostDTO.FeedResponse(toResponses(posts), nextCursor, hasMore);
     }
 
     public PostDTO.DetailResponse getPostById(Long postId) {
         CommunityPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다. id=" + postId));
-        return new PostDTO.DetailResponse(post);
+        PostDTO.DetailResponse response = new PostDTO.DetailResponse(post);
+        response.setLikes(post.getLikes()
+                + (int) likeCounterService.pendingDelta(LikeCounterService.Target.COMMUNITY_POST, postId));
+        return response;
     }
 
     @Transactional
@@ -97,6 +171,7 @@ public class CommunityService {
         }
 
         postRepository.delete(post);
+        hotPostRanking.removeAfterCommit(postId);
     }
 
 
@@ -113,6 +188,8 @@ public class CommunityService {
         newComment.setPost(post);
 
         Comment savedComment = commentRepository.save(newComment);
+        hotPostRanking.recordAfterCommit(toResponse(post), 0, 1); // 댓글 수 증가 전 상태 기준
+        postRepository.adjustCommentCount(postId, 1);
         return new CommentDTO.Response(savedComment);
     }
 
@@ -131,15 +208,18 @@ public class CommunityService {
             throw new SecurityException("댓글 삭제 권한이 없습니다.");
         }
 
-        // 4. 댓글 삭제
+        // 4. 댓글 삭제 + 게시글 댓글 수 차감
+        CommunityPost post = comment.getPost();
+        Long postId = post.getId();
+        hotPostRanking.recordAfterCommit(toResponse(post), 0, -1); // 댓글 수 차감 전 상태 기준
         commentRepository.delete(comment);
+        postRepository.adjustCommentCount(postId, -1);
     }
 
 
-    // 게시글 좋아요 처리
+    // 게시글 좋아요 처리 (게시글 행은 건드리지 않고 좋아요 행 + 카운터 증감만 기록)
     @Transactional
     public PostDTO.Response likePost(Long postId,String userId) {
-        System.out.println(userId);
         CommunityPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
 
@@ -148,63 +228,87 @@ public class CommunityService {
 
         boolean alreadyLiked = postLikeRepository.existsByUserAndPost(user, post);
 
+        long delta;
         if (alreadyLiked) {
-            postLikeRepository.deleteByUserAndPost(user, post);
-            post.setLikes(post.getLikes() - 1);
+            delta = -postLikeRepository.deleteByUserAndPost(user, post);
         } else {
             postLikeRepository.save(new CommunityPostLike(null, post, user));
-            post.setLikes(post.getLikes() + 1);
+            delta = 1;
         }
+        likeCounterService.recordAfterCommit(LikeCounterService.Target.COMMUNITY_POST, postId, delta);
+        userLikeCache.invalidateAfterCommit(LikeCounterService.Target.COMMUNITY_POST, userId);
+
+        PostDTO.Response response = toResponse(post);
+        hotPostRanking.recordAfterCommit(response, (int) delta, 0);
+        response.setLikes(response.getLikes() + (int) delta); // 커밋 후 반영될 이번 증감 포함
+        return response;
+    }
 
-        postRepository.save(post);
-        return new PostDTO.Response(post);
+    /** ✅ 목록 응답 변환: 이미지 경로를 한 번에 조회해 게시글별로 묶음 */
+    private List<PostDTO.Response> toResponses(List<CommunityPost> posts) {
+        if (posts.isEmpty()) return List.of();
+        Map<Long, List<String>> imagesByPost = new HashMap<>();
+        List<Long> ids = posts.stream().map(CommunityPost::getId).toList();
+        for (Object[] row : postImageRepository.findPhotoPathsByPostIds(ids)) {
+            imagesByPost.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        return posts.stream()
+                .map(post -> {
+                    PostDTO.Response response = new PostDTO.Response(post, imagesByPost.get(post.getId()));
+                    response.setLikes(post.getLikes() + (int) likeCounterService.pendingDelta(
+                            LikeCounterService.Target.COMMUNITY_POST, post.getId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /** ✅ 기동 시 비정규화 댓글 수 보정 (신규 컬럼 채우기 겸용) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional
+    public void reconcileCommentCounts() {
+        int fixed = postRepository.reconcileCommentCounts();
+        if (fixed > 0) {
+            System.out.println("🔧 [Community] 댓글 수 보정: " + fixed + "건");
+        }
+    }
+
+    /** ✅ 응답 변환 시 아직 DB에 반영되지 않은 좋아요 증감을 더해 줌 */
+    private PostDTO.Response toResponse(CommunityPost post) {
+        PostDTO.Response response = new PostDTO.Response(post);
+        response.setLikes(post.getLikes()
+                + (int) likeCounterService.pendingDelta(LikeCounterService.Target.COMMUNITY_POST, post.getId()));
+        return response;
+    }
+
+    // 여러 게시글의 좋아요 여부 일괄 조회 (유저별 비트맵 캐시)
+    public Map<Long, Boolean> getLikeStatuses(String userId, List<Long> postIds) {
+        if (postIds != null && postIds.size() > MAX_STATUS_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_STATUS_IDS + "개입니다.");
+        }
+        return userLikeCache.likedFlags(LikeCounterService.Target.COMMUNITY_POST, userId, postIds);
     }
 
     @Transactional
     public List<PostDTO.Response> getLikedPostsByUser(String userId) {
         List<CommunityPostLike> likes = postLikeRepository.findByUser_Userid(userId);
 
-        return likes.stream()
+        return toResponses(likes.stream()
                 .map(CommunityPostLike::getPost)
-                .map(PostDTO.Response::new) // 👈 생성자 사용
-                .collect(Collectors.toList());
+                .toList());
     }
 
 
-    // ✅ ADD: ItemService에서 가져온 이미지 저장 메소드 (CommunityPost에 맞게 수정)
-    private void savePostImages(List<MultipartFile> images, CommunityPost post) {
+    // ✅ 파일은 컨트롤러에서 트랜잭션 밖에서 이미 저장됨 → 여기서는 경로만 연결
+    private void savePostImages(List<StoredFile> images, CommunityPost post) {
         if (images == null || images.isEmpty()) return;
-        ensureUploadsDirExists();
 
-        for (MultipartFile file : images) {
-            try {
-                String ext = StringUtils.getFilenameExtension(file.getOriginalFilename());
-                String base = UUID.randomUUID().toString().replace("-", "");
-                String filename = (ext == null || ext.isBlank()) ? base : base + "." + ext.toLowerCase();
-
-                Path originPath = UPLOAD_ROOT.resolve(filename);
-                Files.copy(file.getInputStream(), originPath, StandardCopyOption.REPLACE_EXISTING);
-
-                CommunityPostImage image = CommunityPostImage.builder()
-                        .photoPath("/uploads/" + filename)
-                        .build();
-
-                post.addImage(image);
-
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 저장 실패: " + e.getMessage(), e);
-            }
-        }
-    }
+        for (StoredFile file : images) {
+            CommunityPostImage image = CommunityPostImage.builder()
+                    .photoPath(file.url())
+                    .build();
 
-    // ✅ ADD: uploads 디렉토리 존재 확인 및 생성
-    private void ensureUploadsDirExists() {
-        try {
-            Files.createDirectories(UPLOAD_ROOT);
-        } catch (IOException e) {
-            throw new RuntimeException("업로드 디렉토리 생성 실패: " + e.getMessage(), e);
+            post.addImage(image);
         }
     }
-
-
 }
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.sutalk.backend.domain.community.service;
+
+import com.sutalk.backend.domain.community.dto.PostDTO;
+import com.sutalk.backend.domain.community.entity.PostCategory;
+import com.sutalk.backend.domain.like.service.LikeCounterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * ✅ 커뮤니티 인기글 랭킹 (카테고리별 상위 N개를 메모리에 유지)
+ * - 점수 = (1 + 좋아요 + 2 × 댓글) × 2^(-경과시간 / 반감기)
+ *   → 로그를 취하면 ln(1 + 좋아요 + 2 × 댓글) + 작성시각 × ln2 / 반감기 로, "현재 시각" 항이 모든 글에 똑같이 빠지므로
+ *     시간이 흘러도 순위는 그대로 → 좋아요/댓글 이벤트가 온 글만 다시 계산하면 됨
+ * - 조회는 DB 없이 메모리 스냅샷 복사본 반환
+ * - 기동 시 + 주기적으로 DB 기준 재구성 (재시작 후에도 같은 순위, 누적 오차 보정)
+ */
+@Service
+public class HotPostRanking {
+
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+
+    private static final class Entry {
+        final PostDTO.Response view;
+        int likes;
+        int comments;
+        double score;
+
+        Entry(PostDTO.Response view, int likes, int comments) {
+            this.view = view;
+            this.likes = likes;
+            this.comments = comments;
+        }
+    }
+
+    private record Candidate(Long id, double score) {
+    }
+
+    // 점수 내림차순, 같으면 최신 글(id 큰 쪽) 먼저
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry e) -> e.score).reversed()
+            .thenComparing(e -> e.view.getId(), Comparator.reverseOrder());
+
+    private final LikeCounterService likeCounterService;
+    private final int capacity;
+    private final double decayPerSecond;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<PostCategory, TreeSet<Entry>> byCategory = new EnumMap<>(PostCategory.class);
+
+    public HotPostRanking(LikeCounterService likeCounterService,
+                          @Value("${community.hot.size:100}") int capacity,
+                          @Value("${community.hot.half-life-hours:24}") double halfLifeHours) {
+        this.likeCounterService = likeCounterService;
+        this.capacity = Math.max(1, capacity);
+        this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        for (PostCategory category : PostCategory.values()) {
+            byCategory.put(category, new TreeSet<>(ORDER));
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** ✅ 로그 공간 점수 (시각과 무관하게 비교 가능) */
+    public double score(int likes, int comments, LocalDateTime createdAt) {
+        double weight = 1 + LIKE_WEIGHT * Math.max(0, likes) + COMMENT_WEIGHT * Math.max(0, comments);
+        long created = createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : 0L;
+        return Math.log(weight) + created * decayPerSecond;
+    }
+
+    /** ✅ 인기글 조회 (category 가 null 이면 전체 카테고리 병합) */
+    public synchronized List<PostDTO.Response> top(PostCategory category, int limit) {
+        int n = Math.max(0, Math.min(limit, capacity));
+        Collection<Entry> source;
+        if (category != null) {
+            source = byCategory.get(category);
+        } else {
+            List<Entry> merged = new ArrayList<>(entries.values());
+            merged.sort(ORDER);
+            source = merged;
+        }
+        List<PostDTO.Response> result = new ArrayList<>(n);
+        for (Entry entry : source) {
+            if (result.size() >= n) break;
+            result.add(copy(entry.view, entry.likes, entry.comments));
+        }
+        return result;
+    }
+
+    /**
+     * ✅ 좋아요/댓글/작성 이벤트 반영 (커밋 이후)
+     * view 는 이벤트 직전 상태의 응답 (순위에 없던 글이면 이 값 + 증감으로 새로 진입 심사)
+     */
+    public void recordAfterCommit(PostDTO.Response view, int likeDelta, int commentDelta) {
+        if (view == null || view.getId() == null || view.getCategory() == null) return;
+        PostDTO.Response snapshot = copy(view, view.getLikes(), view.getCommentsCount());
+        runAfterCommit(() -> apply(snapshot, likeDelta, commentDelta));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        if (postId == null) return;
+        runAfterCommit(() -> remove(postId));
+    }
+
+    /** ✅ 재구성 1단계: [id, category, createdAt, likes, commentCount] 전체에서 카테고리별 상위 N개 ID 선별 */
+    public Set<Long> selectTopIds(List<Object[]> stats) {
+        Comparator<Candidate> worstFirst = Comparator
+                .comparingDouble(Candidate::score)
+                .thenComparing(Candidate::id);
+        Map<PostCategory, PriorityQueue<Candidate>> heaps = new EnumMap<>(PostCategory.class);
+
+        for (Object[] row : stats) {
+            Long id = (Long) row[0];
+            PostCategory category = (PostCategory) row[1];
+            if (category == null) continue;
+            int likes = ((Number) row[3]).intValue()
+                    + (int) likeCounterService.pendingDelta(LikeCounterService.Target.COMMUNITY_POST, id);
+            int comments = ((Number) row[4]).intValue();
+
+            PriorityQueue<Candidate> heap = heaps.computeIfAbsent(category, k -> new PriorityQueue<>(worstFirst));
+            heap.add(new Candidate(id, score(likes, comments, (LocalDateTime) row[2])));
+            if (heap.size() > capacity) heap.poll();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        heaps.values().forEach(heap -> heap.forEach(candidate -> ids.add(candidate.id())));
+        return ids;
+    }
+
+    /** ✅ 재구성 2단계: 선별된 글의 응답으로 랭킹 전체 교체 */
+    public synchronized void replaceAll(List<PostDTO.Response> views) {
+        entries.clear();
+        byCategory.values().forEach(TreeSet::clear);
+        for (PostDTO.Response view : views) {
+            if (view.getCategory() == null) continue;
+            insert(new Entry(copy(view, view.getLikes(), view.getCommentsCount()),
+                    view.getLikes(), view.getCommentsCount()));
+        }
+    }
+
+    private synchronized void apply(PostDTO.Response view, int likeDelta, int commentDelta) {
+        Entry entry = entries.get(view.getId());
+        if (entry != null) {
+            byCategory.get(entry.view.getCategory()).remove(entry);
+            entries.remove(view.getId());
+            entry.likes += likeDelta;
+            entry.comments += commentDelta;
+        } else {
+            entry = new Entry(view, view.getLikes() + likeDelta, view.getCommentsCount() + commentDelta);
+        }
+        insert(entry);
+    }
+
+    private synchronized void remove(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry != null) {
+            byCategory.get(entry.view.getCategory()).remove(entry);
+        }
+    }
+
+    /** 점수 계산 후 삽입, 상위 N개를 넘으면 가장 낮은 글부터 제외 */
+    private void insert(Entry entry) {
+        entry.score = score(entry.likes, entry.comments, entry.view.getCreatedAt());
+        TreeSet<Entry> ranked = byCategory.get(entry.view.getCategory());
+        ranked.add(entry);
+        entries.put(entry.view.getId(), entry);
+        while (ranked.size() > capacity) {
+            Entry dropped = ranked.pollLast();
+            entries.remove(dropped.view.getId());
+        }
+    }
+
+    private static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static PostDTO.Response copy(PostDTO.Response src, int likes, int comments) {
+        PostDTO.Response copy = new PostDTO.Response();
+        copy.setId(src.getId());
+        copy.setTitle(src.getTitle());
+        copy.setContent(src.getContent());
+        copy.setAuthor(src.getAuthor());
+        copy.setAuthorId(src.getAuthorId());
+        copy.setAuthorProfileImage(src.getAuthorProfileImage());
+        copy.setCategory(src.getCategory());
+        copy.setCreatedAt(src.getCreatedAt());
+        copy.setLikes(likes);
+        copy.setCommentsCount(comments);
+        copy.setImages(src.getImages() != null ? List.copyOf(src.getImages()) : List.of());
+        copy.setThumbnailUrl(src.getThumbnailUrl());
+        return copy;
+    }
+}
@@ -1,6 +1,6 @@
 package com.sutalk.backend.domain.friend.controller;
 
-import com.sutalk.backend.domain.friend.dto.UserSummaryDTO;
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
 import com.sutalk.backend.domain.friend.entity.FriendRequest;
 import com.sutalk.backend.domain.friend.service.FriendService;
 import com.sutalk.backend.domain.user.entity.User;
@@ -1,13 +1,13 @@
 package com.sutalk.backend.domain.friend.service;
 
-import com.sutalk.backend.domain.friend.dto.UserSummaryDTO;
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
 import com.sutalk.backend.domain.friend.entity.FriendRequest;
 import com.sutalk.backend.domain.friend.entity.FriendRequestStatus;
 import com.sutalk.backend.domain.friend.entity.Friendship;
 import com.sutalk.backend.domain.friend.repository.FriendRequestRepository;
 import com.sutalk.backend.domain.friend.repository.FriendshipRepository;
 import com.sutalk.backend.domain.user.entity.User;
-import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,15 +19,13 @@ public class FriendService {
 
     private final FriendRequestRepository friendRequestRepository;
     private final FriendshipRepository friendshipRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /** ✅ 친구 요청 보내기 */
     @Transactional
     public void sendRequest(String senderId, String receiverId) {
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new RuntimeException("보내는 유저 없음"));
-        User receiver = userRepository.findById(receiverId)
-                .orElseThrow(() -> new RuntimeException("받는 유저 없음"));
+        User sender = userCache.getReference(senderId, () -> new RuntimeException("보내는 유저 없음"));
+        User receiver = userCache.getReference(receiverId, () -> new RuntimeException("받는 유저 없음"));
 
         if (friendRequestRepository.existsBySenderAndReceiver(sender, receiver))
             throw new RuntimeException("이미 요청 중입니다.");
@@ -67,14 +65,13 @@ public class FriendService {
     /** ✅ 친구 목록 조회 (DTO 반환) */
     @Transactional(readOnly = true)
     public List<UserSummaryDTO> getFriends(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저 없음"));
+        User user = userCache.getReference(userId, () -> new RuntimeException("유저 없음"));
 
         List<Friendship> relations = friendshipRepository.findByUser1OrUser2(user, user);
 
         return relations.stream()
                 .map(f -> {
-                    User other = f.getUser1().equals(user) ? f.getUser2() : f.getUser1();
+                    User other = f.getUser1().getUserid().equals(userId) ? f.getUser2() : f.getUser1();
                     return new UserSummaryDTO(
                             other.getUserid(),
                             other.getName(),
@@ -87,8 +84,7 @@ public class FriendService {
     /** ✅ 받은 요청 조회 */
     @Transactional(readOnly = true)
     public List<FriendRequest> getPendingRequests(String receiverId) {
-        User receiver = userRepository.findById(receiverId)
-                .orElseThrow(() -> new RuntimeException("유저 없음"));
+        User receiver = userCache.getReference(receiverId, () -> new RuntimeException("유저 없음"));
         return friendRequestRepository.findByReceiverAndStatus(receiver, FriendRequestStatus.PENDING);
     }
 
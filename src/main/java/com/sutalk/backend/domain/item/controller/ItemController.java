@@ -1,11 +1,13 @@
 package com.sutalk.backend.domain.item.controller;
 
+import com.sutalk.backend.domain.item.dto.ItemFeedResponseDTO;
 import com.sutalk.backend.domain.item.dto.ItemRegisterRequestDTO;
 import com.sutalk.backend.domain.item.dto.ItemResponseDTO;
 import com.sutalk.backend.domain.search.dto.ItemSuggestionDTO;
 import com.sutalk.backend.domain.chat.repository.ChatRoomRepository;
 import com.sutalk.backend.domain.item.repository.ItemRepository;
 import com.sutalk.backend.domain.item.service.ItemService;
+import com.sutalk.backend.global.storage.UploadStorageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +27,7 @@ public class ItemController {
     private final ItemService itemService;
     private final ItemRepository itemRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final UploadStorageService uploadStorageService;
 
     /** ✅ 상품 등록 (멀티파트 처리) */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -32,7 +35,8 @@ public class ItemController {
             @RequestPart("item") ItemRegisterRequestDTO requestDTO,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        Long itemId = itemService.saveItemWithImages(requestDTO, images);
+        // ✅ 파일 저장은 트랜잭션 밖에서 먼저 (디스크 I/O 동안 DB 커넥션 점유 방지)
+        Long itemId = itemService.saveItemWithImages(requestDTO, uploadStorageService.storeAll(images));
         Map<String, Object> response = new HashMap<>();
         response.put("itemid", itemId);
         response.put("message", "상품이 성공적으로 등록되었습니다.");
@@ -51,6 +55,17 @@ public class ItemController {
         return ResponseEntity.ok(itemService.getAllItems());
     }
 
+    /** ✅ 커서 기반 피드 조회 (status: 판매중/예약중/거래완료, category 선택) */
+    @GetMapping("/feed")
+    public ResponseEntity<ItemFeedResponseDTO> getItemFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category
+    ) {
+        return ResponseEntity.ok(itemService.getItemFeed(cursor, size, status, category));
+    }
+
     /** ✅ 내 판매 내역 */
     @GetMapping("/mine")
     public ResponseEntity<List<ItemResponseDTO>> getMyItems(@RequestParam String userId) {
@@ -65,7 +80,7 @@ public class ItemController {
             @RequestParam(value = "existingImages", required = false) List<String> existingImages, // ✅ 핵심 수정
             @RequestPart(value = "images", required = false) List<MultipartFile> newImages
     ) {
-        itemService.updateItem(id, requestDTO, existingImages, newImages);
+        itemService.updateItem(id, requestDTO, existingImages, uploadStorageService.storeAll(newImages));
         Map<String, Object> response = new HashMap<>();
         response.put("itemid", id);
         response.put("message", "게시글이 성공적으로 수정되었습니다.");
@@ -2,6 +2,7 @@ package com.sutalk.backend.domain.item.controller;
 
 import com.sutalk.backend.domain.item.dto.FavoriteItemDTO;
 import com.sutalk.backend.domain.item.service.ItemLikeService;
+import com.sutalk.backend.domain.like.dto.LikeStatusRequestDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +42,12 @@ public class ItemLikeController {
         return ResponseEntity.ok(itemLikeService.isLiked(itemId, userId));
     }
 
+    // 여러 상품의 좋아요 여부 일괄 조회 (itemId → liked)
+    @PostMapping("/status")
+    public ResponseEntity<Map<Long, Boolean>> likeStatuses(@RequestBody LikeStatusRequestDTO request) {
+        return ResponseEntity.ok(itemLikeService.getLikeStatuses(request.getUserId(), request.getIds()));
+    }
+
     // 특정 유저의 좋아요 목록
     @PostMapping("/my")
     public ResponseEntity<List<FavoriteItemDTO>> myFavorites(@RequestBody Map<String, String> body) {
@@ -25,13 +25,13 @@ public class FavoriteItemDTO {
     // ✅ 단일 대표 썸네일 (첫 번째 이미지나 thumbnail 필드)
     private String thumbnail;
 
-    public FavoriteItemDTO(Item item) {
+    public FavoriteItemDTO(Item item, long likeCount) {
         this.itemid = item.getItemid();
         this.title = item.getTitle();
         this.price = item.getPrice();
         this.category = item.getCategory();
         this.sellerName = item.getSeller() != null ? item.getSeller().getName() : "알 수 없음";
-        this.likeCount = (long) item.getItemLikes().size();
+        this.likeCount = likeCount; // ✅ 좋아요 컬렉션 전체 로딩 대신 카운터 값 사용
 
         // ✅ 전체 이미지 경로 리스트 (상대경로 그대로)
         if (item.getItemImages() != null && !item.getItemImages().isEmpty()) {
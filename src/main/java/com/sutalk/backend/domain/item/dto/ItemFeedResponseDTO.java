@@ -0,0 +1,20 @@
+package com.sutalk.backend.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ✅ 커서 기반 상품 피드 응답
+ * nextCursor 는 "regdate_itemid" 형식이며, 다음 페이지 요청 시 그대로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFeedResponseDTO {
+    private List<ItemResponseDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -22,6 +22,7 @@ public class ItemResponseDTO {
     private String sellerName;
     private String sellerProfileImage; // ✅ 추가된 필드
     private List<String> itemImages;
+    private String thumbnail; // ✅ 목록용 축소본 (후처리 전이면 첫 원본 이미지)
     private String status;
 
     public static ItemResponseDTO from(Item item) {
@@ -48,6 +49,10 @@ public class ItemResponseDTO {
                 .collect(Collectors.toList())
                 : List.of(); // null일 경우 빈 리스트 반환
 
+        String thumbnail = item.getThumbnail() != null
+                ? item.getThumbnail()
+                : (imagePaths.isEmpty() ? null : imagePaths.get(0));
+
         // ✅ 3️⃣ DTO 반환 (기존 구조 유지)
         return ItemResponseDTO.builder()
                 .itemid(item.getItemid())
@@ -61,6 +66,7 @@ public class ItemResponseDTO {
                 .sellerName(sellerName)
                 .sellerProfileImage(sellerProfileImage)
                 .itemImages(imagePaths)
+                .thumbnail(thumbnail)
                 .status(String.valueOf(item.getStatus()))
                 .build();
     }
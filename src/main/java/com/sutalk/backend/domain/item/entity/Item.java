@@ -16,7 +16,9 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "sutalk_item")
+@Table(name = "sutalk_item", indexes = {
+        @Index(name = "idx_item_regdate_itemid", columnList = "regdate, itemid")
+})
 public class Item {
 
     @Id
@@ -59,6 +61,11 @@ public class Item {
 
     private String thumbnail;
 
+    // ✅ 비정규화 좋아요 수: LikeCounterService 가 "like_count + ?" 로만 갱신 (엔티티 flush 로 덮어쓰지 않음)
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long likeCount = 0L;
+
     private String time;
 
     @Builder.Default
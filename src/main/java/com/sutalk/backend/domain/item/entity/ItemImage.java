@@ -18,6 +18,13 @@ public class ItemImage {
     @Column(name = "photo_path")
     private String photoPath;
 
+    // ✅ 후처리 축소본 (목록용 / 상세용) — 생성 전이거나 미지원 형식이면 null
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name = "medium_path")
+    private String mediumPath;
+
     private LocalDateTime regdate;
 
     @ManyToOne(fetch = FetchType.LAZY)
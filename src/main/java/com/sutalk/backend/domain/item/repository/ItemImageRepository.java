@@ -2,6 +2,31 @@ package com.sutalk.backend.domain.item.repository;
 
 import com.sutalk.backend.domain.item.entity.ItemImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ItemImageRepository extends JpaRepository<ItemImage, String> {
+
+    // ✅ 여러 상품의 이미지 경로를 한 번에 조회 (등록순) → [itemId, photoPath]
+    @Query("SELECT img.item.itemid, img.photoPath FROM ItemImage img " +
+            "WHERE img.item.itemid IN :itemIds ORDER BY img.photoid")
+    List<Object[]> findPhotoPathsByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
+    // ✅ 대표 이미지 판별용: 가장 먼저 등록된 이미지 ID
+    @Query("SELECT MIN(img.photoid) FROM ItemImage img WHERE img.item.itemid = :itemId")
+    Long findFirstPhotoId(@Param("itemId") Long itemId);
+
+    // ✅ 후처리로 생성된 축소본 경로 기록
+    @Transactional
+    @Modifying
+    @Query("UPDATE ItemImage img SET img.thumbnailPath = :thumbnailPath, img.mediumPath = :mediumPath " +
+            "WHERE img.photoid = :photoId")
+    int updateVariants(@Param("photoId") Long photoId,
+                       @Param("thumbnailPath") String thumbnailPath,
+                       @Param("mediumPath") String mediumPath);
 }
@@ -16,7 +16,11 @@ public interface ItemLikeRepository extends JpaRepository<ItemLike, Long> {
     Long countByItem(Item item);
     List<ItemLike> findByUser(User user);
     boolean existsByItemAndUser(Item item, User user);
-    void deleteByItemAndUser(Item item, User user);
+    long deleteByItemAndUser(Item item, User user);
+
+    // ✅ 좋아요 비트맵 적재용: 유저가 좋아요 누른 상품 ID만 조회
+    @Query("SELECT il.item.itemid FROM ItemLike il WHERE il.user.userid = :userId")
+    List<Long> findItemIdsByUserId(@Param("userId") String userId);
 
     @Modifying
     @Query("DELETE FROM ItemLike il WHERE il.item.itemid = :itemid")
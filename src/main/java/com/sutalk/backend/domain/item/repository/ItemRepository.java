@@ -1,10 +1,12 @@
 package com.sutalk.backend.domain.item.repository;
 
 import com.sutalk.backend.domain.item.entity.Item;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +18,29 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             "LEFT JOIN FETCH i.itemImages")
     List<Item> findAllWithSellerAndImages();
 
+    // ✅ 피드 1단계: (regdate, itemid) 키셋으로 ID만 조회
+    @Query("""
+    SELECT i.itemid FROM Item i
+    WHERE (:status IS NULL OR i.status = :status)
+      AND (:category IS NULL OR i.category = :category)
+      AND (:cursorRegdate IS NULL
+           OR i.regdate < :cursorRegdate
+           OR (i.regdate = :cursorRegdate AND i.itemid < :cursorId))
+    ORDER BY i.regdate DESC, i.itemid DESC
+    """)
+    List<Long> findFeedIds(@Param("status") Item.Status status,
+                           @Param("category") String category,
+                           @Param("cursorRegdate") Long cursorRegdate,
+                           @Param("cursorId") Long cursorId,
+                           Pageable pageable);
+
+    // ✅ 피드 2단계: 선택된 ID의 판매자/이미지 일괄 로딩
+    @Query("SELECT DISTINCT i FROM Item i " +
+            "LEFT JOIN FETCH i.seller " +
+            "LEFT JOIN FETCH i.itemImages " +
+            "WHERE i.itemid IN :ids")
+    List<Item> findAllWithSellerAndImagesByIdIn(@Param("ids") List<Long> ids);
+
     @Query("SELECT i FROM Item i " +
             "LEFT JOIN FETCH i.seller " +
             "LEFT JOIN FETCH i.itemImages " +
@@ -34,16 +59,9 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             "WHERE i.buyer.userid = :buyerId AND i.status = '거래완료'")
     List<Item> findCompletedByBuyerUserId(@Param("buyerId") String buyerId);
 
-    // ✅ 수정된 핵심 쿼리
-    @Query("""
-    SELECT DISTINCT i FROM Item i
-    LEFT JOIN FETCH i.seller s
-    LEFT JOIN FETCH i.itemImages imgs
-    WHERE LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-       OR LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))
-    ORDER BY i.regdate DESC
-    """)
-    List<Item> findTop10ByKeyword(@Param("keyword") String keyword);
+    // ✅ 자동완성 적재용: 제목만 조회
+    @Query("SELECT i.title FROM Item i")
+    List<String> findAllTitles();
 
     // ✅ FK 업데이트용: 판매자 ID 변경
     @Modifying
@@ -54,4 +72,14 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     @Modifying
     @Query("UPDATE Item i SET i.buyer.userid = :newId WHERE i.buyer.userid = :oldId")
     void updateBuyerUserId(@Param("oldId") String oldId, @Param("newId") String newId);
+
+    // ✅ 좋아요 수 조회 (엔티티/연관관계 로딩 없이 카운터 컬럼만)
+    @Query("SELECT i.likeCount FROM Item i WHERE i.itemid = :itemId")
+    Optional<Long> findLikeCount(@Param("itemId") Long itemId);
+
+    // ✅ 이미지 후처리 완료 시 대표 썸네일(목록용 축소본) 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE Item i SET i.thumbnail = :thumbnail WHERE i.itemid = :itemId")
+    int updateThumbnail(@Param("itemId") Long itemId, @Param("thumbnail") String thumbnail);
 }
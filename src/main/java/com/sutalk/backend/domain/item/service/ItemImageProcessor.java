@@ -0,0 +1,268 @@
+package com.sutalk.backend.domain.item.service;
+
+import com.sutalk.backend.domain.item.repository.ItemImageRepository;
+import com.sutalk.backend.domain.item.repository.ItemRepository;
+import com.sutalk.backend.domain.search.service.ItemSearchIndex;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ 상품 이미지 후처리 파이프라인
+ * - 업로드 원본은 그대로 두고, 목록용(small) / 상세용(medium) 축소본을 비동기로 생성
+ * - 픽셀만 다시 인코딩하므로 EXIF(촬영 위치 등) 메타데이터는 축소본에 남지 않음
+ *   → ImageIO 는 EXIF 회전 값(Orientation)을 무시하므로, 축소할 때 회전/반전을 픽셀에 직접 반영
+ * - 작업 스레드/대기열 크기를 제한해 대량 업로드가 요청 스레드나 힙을 잠식하지 않도록 함
+ *   (대기열이 가득 차면 호출 스레드에서 직접 처리 → 자연스러운 배압)
+ */
+@Service
+public class ItemImageProcessor {
+
+    private static final int SMALL_MAX = 320;
+    private static final int MEDIUM_MAX = 960;
+
+    private final ItemImageRepository itemImageRepository;
+    private final ItemRepository itemRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+
+    private final Path UPLOAD_ROOT = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath();
+    private final Path THUMBNAIL_ROOT = UPLOAD_ROOT.resolve("thumbnails");
+
+    public ItemImageProcessor(ItemImageRepository itemImageRepository,
+                              ItemRepository itemRepository,
+                              ItemSearchIndex itemSearchIndex,
+                              @Value("${image.pipeline.threads:2}") int threads,
+                              @Value("${image.pipeline.queue-capacity:200}") int queueCapacity,
+                              @Value("${image.pipeline.quality:0.82}") float quality) {
+        this.itemImageRepository = itemImageRepository;
+        this.itemRepository = itemRepository;
+        this.itemSearchIndex = itemSearchIndex;
+        this.quality = quality;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-pipeline-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /** ✅ 커밋 이후 호출: 원본 경로("/uploads/xxx.jpg")의 축소본 생성 예약 */
+    public void submit(Long itemId, Long photoId, String photoPath) {
+        if (itemId == null || photoId == null || photoPath == null) return;
+        executor.execute(() -> process(itemId, photoId, photoPath));
+    }
+
+    private void process(Long itemId, Long photoId, String photoPath) {
+        try {
+            String filename = Paths.get(photoPath).getFileName().toString();
+            Path origin = UPLOAD_ROOT.resolve(filename);
+            BufferedImage source = ImageIO.read(origin.toFile());
+            if (source == null) {
+                // HEIC 등 ImageIO 가 읽지 못하는 형식은 원본만 사용
+                System.out.println("🖼️ [ImagePipeline] 지원하지 않는 형식, 원본만 사용: " + photoPath);
+                return;
+            }
+
+            String format = formatOf(filename);
+            if (format == null) {
+                System.out.println("🖼️ [ImagePipeline] 인코더 없음, 원본만 사용: " + photoPath);
+                return;
+            }
+
+            // ✅ 휴대폰 사진은 센서 방향 그대로 저장되고 EXIF 로 회전 값만 표시됨
+            int orientation = format.equals("jpeg") ? readOrientation(origin) : 1;
+
+            // ✅ 프론트(toThumbAbs)가 기대하는 규칙: /uploads/thumbnails/thumb_{원본파일명}
+            Files.createDirectories(THUMBNAIL_ROOT);
+            String smallPath = writeVariant(source, orientation, SMALL_MAX, format, "thumb_" + filename);
+            String mediumPath = writeVariant(source, orientation, MEDIUM_MAX, format, "medium_" + filename);
+
+            itemImageRepository.updateVariants(photoId, smallPath, mediumPath);
+
+            // ✅ 대표(가장 먼저 등록된) 이미지라면 상품 썸네일/검색 색인도 갱신
+            Long firstPhotoId = itemImageRepository.findFirstPhotoId(itemId);
+            if (Objects.equals(firstPhotoId, photoId)) {
+                itemRepository.updateThumbnail(itemId, smallPath);
+                itemSearchIndex.updateThumbnail(itemId, smallPath);
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ [ImagePipeline] 후처리 실패: " + photoPath + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /** ✅ 확장자 → ImageIO 포맷명 (쓰기 인코더가 없으면 null) */
+    private String formatOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0) return null;
+        String ext = filename.substring(dot + 1).toLowerCase();
+        String format = ext.equals("jpg") ? "jpeg" : ext;
+        return ImageIO.getImageWritersByFormatName(format).hasNext() ? format : null;
+    }
+
+    /** ✅ JPEG 의 EXIF Orientation(1~8) 읽기, 없거나 읽을 수 없으면 1(그대로) */
+    private int readOrientation(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return readOrientation(in);
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    /** JPEG 마커를 따라가며 APP1(Exif) 의 IFD0 에서 0x0112 태그를 찾음 (이미지 데이터 시작 전까지만 읽음) */
+    static int readOrientation(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readUnsignedShort() != 0xFFD8) return 1; // SOI 아님
+        while (true) {
+            int marker = in.readUnsignedShort();
+            if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) return 1; // SOS / EOI
+            int length = in.readUnsignedShort() - 2;
+            if (length < 0) return 1;
+            if (marker != 0xFFE1) {
+                in.skipNBytes(length);
+                continue;
+            }
+            byte[] app1 = new byte[length];
+            in.readFully(app1);
+            if (length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') continue;
+            return orientationOf(app1, 6);
+        }
+    }
+
+    /** TIFF 헤더(바이트 순서 + IFD0 위치) → IFD0 엔트리 중 Orientation(SHORT) 값 */
+    private static int orientationOf(byte[] data, int tiff) {
+        boolean little = data[tiff] == 'I' && data[tiff + 1] == 'I';
+        if (!little && !(data[tiff] == 'M' && data[tiff + 1] == 'M')) return 1;
+        long ifd = tiff + readInt(data, tiff + 4, little);
+        if (ifd + 2 > data.length) return 1;
+        int entries = readShort(data, (int) ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > data.length) return 1;
+            if (readShort(data, entry, little) == 0x0112) {
+                int value = readShort(data, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean little) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return little ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean little) {
+        long hi = readShort(data, little ? offset + 2 : offset, little);
+        long lo = readShort(data, little ? offset : offset + 2, little);
+        return (hi << 16) | lo;
+    }
+
+    private String writeVariant(BufferedImage source, int orientation, int maxSide, String format, String filename)
+            throws IOException {
+        boolean jpeg = format.equals("jpeg");
+        BufferedImage scaled = scale(source, orientation, maxSide, !jpeg);
+        Path target = THUMBNAIL_ROOT.resolve(filename);
+        Path tmp = THUMBNAIL_ROOT.resolve(filename + ".tmp");
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (jpeg) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            // 메타데이터 없이 픽셀만 기록 → EXIF 제거 (회전은 이미 픽셀에 반영했으므로 Orientation 도 함께 버림)
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return "/uploads/thumbnails/" + filename;
+    }
+
+    /**
+     * ✅ EXIF 방향대로 회전/반전 + 긴 변 기준으로 비율 유지 축소 (확대는 하지 않음), JPEG 는 투명 배경을 흰색으로 채움
+     * 원본 크기의 회전본을 따로 만들지 않고 한 번의 drawImage 변환으로 처리
+     */
+    static BufferedImage scale(BufferedImage source, int orientation, int maxSide, boolean keepAlpha) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5; // 5~8 은 90도 회전 → 가로/세로 바뀜
+        int dw = swap ? h : w;
+        int dh = swap ? w : h;
+        double ratio = Math.min(1.0, (double) maxSide / Math.max(dw, dh));
+        int tw = Math.max(1, (int) Math.round(dw * ratio));
+        int th = Math.max(1, (int) Math.round(dh * ratio));
+
+        BufferedImage out = new BufferedImage(tw, th,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (!keepAlpha) {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, tw, th);
+            }
+            g.scale((double) tw / dw, (double) th / dh);
+            g.transform(orientationTransform(orientation, w, h));
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /** EXIF Orientation → 원본 좌표를 보이는 방향 좌표로 옮기는 변환 (w, h 는 원본 크기) */
+    private static AffineTransform orientationTransform(int orientation, int w, int h) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 좌우 반전 + 반시계 90도 (transpose)
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 좌우 반전 + 시계 90도 (transverse)
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 90도
+            default -> new AffineTransform();
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
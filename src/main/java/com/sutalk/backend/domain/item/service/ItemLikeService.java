@@ -5,13 +5,16 @@ import com.sutalk.backend.domain.item.entity.Item;
 import com.sutalk.backend.domain.item.entity.ItemLike;
 import com.sutalk.backend.domain.item.repository.ItemLikeRepository;
 import com.sutalk.backend.domain.item.repository.ItemRepository;
+import com.sutalk.backend.domain.like.service.LikeCounterService;
+import com.sutalk.backend.domain.like.service.UserLikeCache;
 import com.sutalk.backend.domain.user.entity.User;
-import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.user.service.UserCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,20 +24,25 @@ public class ItemLikeService {
 
     private final ItemLikeRepository itemLikeRepository;
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final LikeCounterService likeCounterService;
+    private final UserLikeCache userLikeCache;
+    private final UserCache userCache;
+
+    private static final int MAX_STATUS_IDS = 200;
 
     // ✅ 좋아요 추가
     public void likeItem(Long itemId, String userId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userCache.getReference(userId, () -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         if (!itemLikeRepository.existsByItemAndUser(item, user)) {
             ItemLike like = new ItemLike();
             like.setItem(item);
             like.setUser(user);
             itemLikeRepository.save(like);
+            likeCounterService.recordAfterCommit(LikeCounterService.Target.ITEM, itemId, 1);
+            userLikeCache.invalidateAfterCommit(LikeCounterService.Target.ITEM, userId);
         }
     }
 
@@ -42,36 +50,45 @@ public class ItemLikeService {
     public void unlikeItem(Long itemId, String userId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userCache.getReference(userId, () -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        itemLikeRepository.deleteByItemAndUser(item, user);
+        long removed = itemLikeRepository.deleteByItemAndUser(item, user);
+        likeCounterService.recordAfterCommit(LikeCounterService.Target.ITEM, itemId, -removed);
+        userLikeCache.invalidateAfterCommit(LikeCounterService.Target.ITEM, userId);
     }
 
-    // ✅ 좋아요 개수
+    // ✅ 좋아요 개수 (DB 카운터 + 아직 반영 전인 증감)
     public long countLikes(Long itemId) {
-        Item item = itemRepository.findById(itemId)
+        long stored = itemRepository.findLikeCount(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        return itemLikeRepository.countByItem(item);
+        return stored + likeCounterService.pendingDelta(LikeCounterService.Target.ITEM, itemId);
     }
 
-    // ✅ 유저가 특정 상품을 좋아요 눌렀는지 여부
+    // ✅ 유저가 특정 상품을 좋아요 눌렀는지 여부 (유저별 비트맵 캐시 조회)
     public boolean isLiked(Long itemId, String userId) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return itemLikeRepository.existsByItemAndUser(item, user);
+        return userLikeCache.isLiked(LikeCounterService.Target.ITEM, userId, itemId);
+    }
+
+    // ✅ 여러 상품의 좋아요 여부 일괄 조회 (피드 렌더링용, 캐시 미스 시에도 쿼리 1회)
+    public Map<Long, Boolean> getLikeStatuses(String userId, List<Long> itemIds) {
+        if (itemIds != null && itemIds.size() > MAX_STATUS_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 최대 " + MAX_STATUS_IDS + "개입니다.");
+        }
+        return userLikeCache.likedFlags(LikeCounterService.Target.ITEM, userId, itemIds);
     }
 
     // ✅ 유저의 좋아요 상품 목록
     public List<FavoriteItemDTO> getUserFavorites(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userCache.getReference(userId, () -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         List<ItemLike> liked = itemLikeRepository.findByUser(user);
         return liked.stream()
-                .map(itemLike -> new FavoriteItemDTO(itemLike.getItem()))
+                .map(itemLike -> {
+                    Item item = itemLike.getItem();
+                    long likeCount = item.getLikeCount()
+                            + likeCounterService.pendingDelta(LikeCounterService.Target.ITEM, item.getItemid());
+                    return new FavoriteItemDTO(item, likeCount);
+                })
                 .collect(Collectors.toList());
     }
 }
@@ -3,9 +3,12 @@ package com.sutalk.backend.domain.item.service;
 import com.sutalk.backend.domain.chat.entity.ChatRoom;
 import com.sutalk.backend.domain.chat.repository.ChatMessageRepository;
 import com.sutalk.backend.domain.chat.repository.ChatRoomRepository;
+import com.sutalk.backend.domain.item.dto.ItemFeedResponseDTO;
 import com.sutalk.backend.domain.item.dto.ItemRegisterRequestDTO;
 import com.sutalk.backend.domain.item.dto.ItemResponseDTO;
 import com.sutalk.backend.domain.search.dto.ItemSuggestionDTO;
+import com.sutalk.backend.domain.search.service.ItemSearchIndex;
+import com.sutalk.backend.domain.search.service.SearchAutocompleteService;
 import com.sutalk.backend.domain.item.entity.Item;
 import com.sutalk.backend.domain.item.entity.ItemImage;
 import com.sutalk.backend.domain.item.repository.ItemImageRepository;
@@ -15,16 +18,17 @@ import com.sutalk.backend.domain.transaction.entity.ItemTransaction;
 import com.sutalk.backend.domain.transaction.repository.ItemTransactionRepository;
 import com.sutalk.backend.domain.user.entity.User;
 import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.global.storage.UploadStorageService.StoredFile;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -41,12 +45,14 @@ public class ItemService {
     private final ChatRoomRepository chatRoomRepository;
     private final ItemTransactionRepository itemTransactionRepository;
     private final ItemLikeRepository itemLikeRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final SearchAutocompleteService autocompleteService;
+    private final ItemImageProcessor itemImageProcessor;
 
     @PersistenceContext
     private EntityManager em;
 
-    private final Path UPLOAD_ROOT = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath();
-    private final Path THUMBNAIL_ROOT = UPLOAD_ROOT.resolve("thumbnails");
+    private static final int MAX_FEED_SIZE = 50;
 
     public Item getItemById(Long id) {
         return itemRepository.findById(id)
@@ -65,6 +71,52 @@ public class ItemService {
                 .collect(Collectors.toList());
     }
 
+    /** ✅ 커서 기반 피드 조회 (1단계: 키셋으로 ID 조회 → 2단계: 판매자/이미지 일괄 로딩) */
+    @Transactional(readOnly = true)
+    public ItemFeedResponseDTO getItemFeed(String cursor, int size, String status, String category) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        Long cursorRegdate = null;
+        Long cursorId = null;
+        if (StringUtils.hasText(cursor)) {
+            int sep = cursor.lastIndexOf('_');
+            try {
+                cursorRegdate = Long.parseLong(cursor.substring(0, sep));
+                cursorId = Long.parseLong(cursor.substring(sep + 1));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+            }
+        }
+
+        Item.Status statusFilter = StringUtils.hasText(status) ? Item.Status.fromKorean(status) : null;
+        String categoryFilter = StringUtils.hasText(category) ? category : null;
+
+        // ✅ 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Long> ids = itemRepository.findFeedIds(
+                statusFilter, categoryFilter, cursorRegdate, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+        if (ids.isEmpty()) {
+            return new ItemFeedResponseDTO(List.of(), null, false);
+        }
+
+        Map<Long, Item> itemsById = itemRepository.findAllWithSellerAndImagesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Item::getItemid, item -> item));
+
+        // ✅ IN 조회는 순서를 보장하지 않으므로 키셋 순서대로 재정렬
+        List<ItemResponseDTO> items = ids.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponseDTO)
+                .toList();
+
+        Item last = itemsById.get(ids.get(ids.size() - 1));
+        String nextCursor = (hasMore && last != null) ? last.getRegdate() + "_" + last.getItemid() : null;
+        return new ItemFeedResponseDTO(items, nextCursor, hasMore);
+    }
+
     public List<ItemResponseDTO> getItemsBySellerId(String userId) {
         return itemRepository.findBySellerUserIdWithImages(userId).stream()
                 .map(this::toResponseDTO)
@@ -91,10 +143,11 @@ public class ItemService {
                 .itemImages(item.getItemImages() != null
                         ? item.getItemImages().stream().map(ItemImage::getPhotoPath).toList()
                         : new ArrayList<>())
+                .thumbnail(item.getThumbnail() != null ? item.getThumbnail() : firstImagePath(item))
                 .build();
     }
 
-    public Long saveItemWithImages(ItemRegisterRequestDTO requestDTO, List<MultipartFile> images) {
+    public Long saveItemWithImages(ItemRegisterRequestDTO requestDTO, List<StoredFile> images) {
         User seller = userRepository.findById(requestDTO.getSellerId())
                 .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
 
@@ -109,17 +162,22 @@ public class ItemService {
                 .regdate(System.currentTimeMillis())
                 .build();
 
-        saveImages(images, item);
-        return itemRepository.save(item).getItemid();
+        List<ItemImage> added = saveImages(images, item);
+        Item saved = itemRepository.save(item);
+        reindexAfterCommit(saved);
+        processAfterCommit(saved.getItemid(), added);
+        afterCommit(() -> autocompleteService.adjust(saved.getTitle(), 1));
+        return saved.getItemid();
     }
 
     /** ✅ 기존 이미지 유지 + 신규 이미지 추가 */
     public void updateItem(Long itemId, ItemRegisterRequestDTO requestDTO,
-                           List<String> existingImages, List<MultipartFile> newImages) {
+                           List<String> existingImages, List<StoredFile> newImages) {
 
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NoSuchElementException("해당 ID의 게시글이 존재하지 않습니다."));
 
+        String oldTitle = item.getTitle();
         item.setTitle(requestDTO.getTitle());
         item.setDescription(requestDTO.getDescription());
         item.setPrice(requestDTO.getPrice());
@@ -137,41 +195,72 @@ public class ItemService {
         item.getItemImages().clear();
         item.getItemImages().addAll(keep);
 
+        // ✅ 대표 이미지가 삭제됐을 수 있으므로 남은 이미지 기준으로 썸네일 재설정
+        item.setThumbnail(keep.stream()
+                .min(Comparator.comparing(ItemImage::getPhotoid))
+                .map(ItemImage::getThumbnailPath)
+                .orElse(null));
+
         // ✅ 신규 이미지 추가
-        saveImages(newImages, item);
+        List<ItemImage> added = saveImages(newImages, item);
+        reindexAfterCommit(item);
+        processAfterCommit(itemId, added);
+        String newTitle = item.getTitle();
+        afterCommit(() -> autocompleteService.replace(oldTitle, newTitle));
     }
 
-    private void ensureDirs() {
-        try {
-            Files.createDirectories(UPLOAD_ROOT);
-            Files.createDirectories(THUMBNAIL_ROOT);
-        } catch (IOException e) {
-            throw new RuntimeException("디렉토리 생성 실패: " + e.getMessage(), e);
-        }
+    /** ✅ 커밋 이후 검색 색인 반영 (롤백 시 색인 오염 방지) */
+    private void reindexAfterCommit(Item item) {
+        Long itemId = item.getItemid();
+        String title = item.getTitle();
+        String description = item.getDescription();
+        String thumbnail = firstImagePath(item);
+        afterCommit(() -> itemSearchIndex.index(itemId, title, description, thumbnail));
+    }
+
+    /** ✅ 대표 이미지 경로 (축소본이 있으면 축소본, 없으면 원본) */
+    private String firstImagePath(Item item) {
+        if (item.getItemImages() == null) return null;
+        return item.getItemImages().stream()
+                .min(Comparator.comparing(ItemImage::getPhotoid, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(img -> img.getThumbnailPath() != null ? img.getThumbnailPath() : img.getPhotoPath())
+                .orElse(null);
     }
 
-    private void saveImages(List<MultipartFile> images, Item item) {
-        if (images == null || images.isEmpty()) return;
-        ensureDirs();
+    /** ✅ 커밋 이후 신규 이미지 축소본 생성 예약 (photoid 는 flush 시점에 채번되므로 커밋 후 읽음) */
+    private void processAfterCommit(Long itemId, List<ItemImage> added) {
+        if (added.isEmpty()) return;
+        afterCommit(() -> added.forEach(img ->
+                itemImageProcessor.submit(itemId, img.getPhotoid(), img.getPhotoPath())));
+    }
 
-        for (MultipartFile file : images) {
-            try {
-                String ext = StringUtils.getFilenameExtension(file.getOriginalFilename());
-                String base = UUID.randomUUID().toString().replace("-", "");
-                String filename = (ext == null || ext.isBlank()) ? base : base + "." + ext.toLowerCase();
-
-                Path originPath = UPLOAD_ROOT.resolve(filename);
-                Files.copy(file.getInputStream(), originPath, StandardCopyOption.REPLACE_EXISTING);
-
-                ItemImage image = ItemImage.builder()
-                        .photoPath("/uploads/" + filename)
-                        .regdate(LocalDateTime.now())
-                        .build();
-                item.addItemImage(image);
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 저장 실패: " + e.getMessage(), e);
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
             }
+        });
+    }
+
+    /** ✅ 파일은 컨트롤러에서 트랜잭션 밖에서 이미 저장됨 → 여기서는 경로만 연결 */
+    private List<ItemImage> saveImages(List<StoredFile> images, Item item) {
+        if (images == null || images.isEmpty()) return List.of();
+
+        List<ItemImage> added = new ArrayList<>();
+        for (StoredFile file : images) {
+            ItemImage image = ItemImage.builder()
+                    .photoPath(file.url())
+                    .regdate(LocalDateTime.now())
+                    .build();
+            item.addItemImage(image);
+            added.add(image);
         }
+        return added;
     }
 
     @Transactional
@@ -190,6 +279,11 @@ public class ItemService {
                 .orElseThrow(() -> new NoSuchElementException("해당 ID의 게시글이 존재하지 않습니다."));
         itemImageRepository.deleteAll(item.getItemImages());
         itemRepository.delete(item);
+        String title = item.getTitle();
+        afterCommit(() -> {
+            itemSearchIndex.remove(itemId);
+            autocompleteService.adjust(title, -1);
+        });
     }
 
 
@@ -207,16 +301,10 @@ public class ItemService {
                 .collect(Collectors.toList());
     }
 
+    /** ✅ 추천 검색 (DB LIKE 스캔 대신 인메모리 역색인 + BM25 상위 10개) */
     @Transactional(readOnly = true)
     public List<ItemSuggestionDTO> getItemSuggestionsWithImage(String keyword) {
-        return itemRepository.findTop10ByKeyword(keyword).stream()
-                .map(item -> new ItemSuggestionDTO(
-                        item.getItemid(),
-                        item.getTitle(),
-                        item.getItemImages() != null && !item.getItemImages().isEmpty()
-                                ? new ArrayList<>(item.getItemImages()).get(0).getPhotoPath()
-                                : null
-                )).toList();
+        return itemSearchIndex.search(keyword, 10);
     }
 
     @Transactional
@@ -0,0 +1,16 @@
+package com.sutalk.backend.domain.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** ✅ 좋아요 여부 일괄 조회 요청 (상품 ID 또는 게시글 ID 목록) */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusRequestDTO {
+    private String userId;
+    private List<Long> ids;
+}
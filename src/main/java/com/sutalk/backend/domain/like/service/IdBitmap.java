@@ -0,0 +1,72 @@
+package com.sutalk.backend.domain.like.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ✅ Roaring 방식의 압축 ID 집합 (생성 후 불변 → 락 없이 조회 가능)
+ * - 상위 48비트로 구간(컨테이너)을 나누고, 구간 내 하위 16비트만 저장
+ * - 원소가 적은 구간은 정렬된 char 배열(2바이트/개), 4096개 초과 구간은 8KB 비트맵
+ */
+final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    static final IdBitmap EMPTY = new IdBitmap(Map.of(), 0);
+
+    // 구간 키 → char[] (정렬된 하위 16비트) 또는 long[1024] (비트맵)
+    private final Map<Long, Object> containers;
+    private final int cardinality;
+
+    private IdBitmap(Map<Long, Object> containers, int cardinality) {
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    static IdBitmap of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return EMPTY;
+        long[] sorted = ids.stream().filter(id -> id != null && id >= 0).mapToLong(Long::longValue)
+                .sorted().distinct().toArray();
+
+        Map<Long, Object> containers = new HashMap<>();
+        int start = 0;
+        while (start < sorted.length) {
+            long high = sorted[start] >>> 16;
+            int end = start;
+            while (end < sorted.length && (sorted[end] >>> 16) == high) end++;
+
+            int count = end - start;
+            if (count <= ARRAY_MAX) {
+                char[] lows = new char[count];
+                for (int i = 0; i < count; i++) lows[i] = (char) sorted[start + i];
+                containers.put(high, lows);
+            } else {
+                long[] bits = new long[1024];
+                for (int i = start; i < end; i++) {
+                    int low = (int) (sorted[i] & 0xFFFF);
+                    bits[low >>> 6] |= 1L << low;
+                }
+                containers.put(high, bits);
+            }
+            start = end;
+        }
+        return new IdBitmap(containers, sorted.length);
+    }
+
+    boolean contains(Long id) {
+        if (id == null || id < 0) return false;
+        Object container = containers.get(id >>> 16);
+        if (container == null) return false;
+        int low = (int) (id & 0xFFFF);
+        if (container instanceof char[] lows) {
+            return Arrays.binarySearch(lows, (char) low) >= 0;
+        }
+        long[] bits = (long[]) container;
+        return (bits[low >>> 6] & (1L << low)) != 0;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+}
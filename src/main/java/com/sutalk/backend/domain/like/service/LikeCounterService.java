@@ -0,0 +1,160 @@
+package com.sutalk.backend.domain.like.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 좋아요 수 비정규화 카운터
+ * - 좋아요/취소는 행 잠금 없이 LongAdder(스트라이프 카운터)에 증감만 누적
+ * - 주기적으로 "SET 컬럼 = 컬럼 + ?" 배치 UPDATE 로 DB 반영 → 인기 글도 단일 행 잠금에 줄 서지 않음
+ * - 원본(좋아요 테이블) 기준 재집계로 누적 오차 보정 (기동 시 + 매일 새벽)
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeCounterService {
+
+    public enum Target {
+        ITEM("UPDATE sutalk_item SET like_count = like_count + ? WHERE itemid = ?",
+                """
+                UPDATE sutalk_item i
+                LEFT JOIN (SELECT item_id, COUNT(*) AS cnt FROM sutalk_item_like GROUP BY item_id) l
+                       ON l.item_id = i.itemid
+                SET i.like_count = COALESCE(l.cnt, 0)
+                WHERE i.like_count <> COALESCE(l.cnt, 0)
+                """),
+        COMMUNITY_POST("UPDATE sutalk_community_post SET likes = likes + ? WHERE id = ?",
+                """
+                UPDATE sutalk_community_post p
+                LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM sutalk_community_post_like GROUP BY post_id) l
+                       ON l.post_id = p.id
+                SET p.likes = COALESCE(l.cnt, 0)
+                WHERE p.likes <> COALESCE(l.cnt, 0)
+                """);
+
+        private final String incrementSql;
+        private final String reconcileSql;
+
+        Target(String incrementSql, String reconcileSql) {
+            this.incrementSql = incrementSql;
+            this.reconcileSql = reconcileSql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대상별 id → 아직 DB에 반영되지 않은 증감량
+    // (누적과 0 엔트리 제거는 모두 맵의 compute 안에서 → 제거와 동시 증가가 겹쳐도 증감이 유실되지 않음)
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(Map.of(
+            Target.ITEM, new ConcurrentHashMap<>(),
+            Target.COMMUNITY_POST, new ConcurrentHashMap<>()));
+
+    /** ✅ 커밋 이후 증감 누적 (롤백된 좋아요가 카운터에 섞이지 않도록) */
+    public void recordAfterCommit(Target target, Long id, long delta) {
+        if (id == null || delta == 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(target, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(target, id, delta);
+            }
+        });
+    }
+
+    public void record(Target target, Long id, long delta) {
+        pending.get(target).compute(id, (k, adder) -> {
+            LongAdder result = adder != null ? adder : new LongAdder();
+            result.add(delta);
+            return result;
+        });
+    }
+
+    /** ✅ 아직 반영되지 않은 증감량 (DB 값 + 이 값 = 현재 좋아요 수) */
+    public long pendingDelta(Target target, Long id) {
+        LongAdder adder = pending.get(target).get(id);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /** ✅ 누적 증감을 배치 UPDATE 로 반영, 반영한 만큼만 차감 (그 사이 들어온 증감은 다음 주기로) */
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            Map<Long, Long> deltas = snapshot(target);
+            if (deltas.isEmpty()) continue;
+
+            List<Object[]> args = new ArrayList<>();
+            deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+            try {
+                jdbcTemplate.batchUpdate(target.incrementSql, args);
+                subtract(target, deltas);
+            } catch (Exception e) {
+                // 실패 시 증감을 그대로 두고 다음 주기에 재시도
+                System.err.println("❌ [LikeCounter] " + target + " 반영 실패(" + args.size() + "건): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * ✅ 기동 시 1회 + 매일 새벽: 좋아요 테이블 기준으로 어긋난 카운터만 보정
+     * 커밋 후 누적된 증감은 이미 좋아요 테이블에 들어 있으므로 재집계 값에 포함됨
+     * → UPDATE 직전에 잡아 둔 미반영 증감을 함께 차감 (다음 flush 가 같은 좋아요를 한 번 더 더하지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${like.counter.reconcile-cron:0 30 4 * * *}")
+    public synchronized void reconcile() {
+        flush();
+        for (Target target : Target.values()) {
+            try {
+                Map<Long, Long> counted = snapshot(target);
+                int fixed = jdbcTemplate.update(target.reconcileSql);
+                subtract(target, counted);
+                if (fixed > 0) {
+                    System.out.println("🔧 [LikeCounter] " + target + " 카운터 보정: " + fixed + "건");
+                }
+            } catch (Exception e) {
+                System.err.println("❌ [LikeCounter] " + target + " 보정 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /** 0 이 아닌 미반영 증감 스냅샷 */
+    private Map<Long, Long> snapshot(Target target) {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.get(target).forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) deltas.put(id, delta);
+        });
+        return deltas;
+    }
+
+    /** DB 에 반영된 만큼 차감, 0 이 된 엔트리는 제거 (그 사이 들어온 증감이 있으면 남김) */
+    private void subtract(Target target, Map<Long, Long> deltas) {
+        ConcurrentHashMap<Long, LongAdder> adders = pending.get(target);
+        deltas.forEach((id, delta) -> adders.computeIfPresent(id, (k, adder) -> {
+            adder.add(-delta);
+            return adder.sum() == 0 ? null : adder;
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
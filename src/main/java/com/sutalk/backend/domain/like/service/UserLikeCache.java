@@ -0,0 +1,116 @@
+package com.sutalk.backend.domain.like.service;
+
+import com.sutalk.backend.domain.community.repository.CommunityPostLikeRepository;
+import com.sutalk.backend.domain.item.repository.ItemLikeRepository;
+import com.sutalk.backend.domain.like.service.LikeCounterService.Target;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * ✅ 유저별 "좋아요 누른 ID" 비트맵 캐시
+ * - 첫 조회 시 유저의 좋아요 ID 전체를 한 번에 읽어 압축 비트맵(IdBitmap)으로 보관
+ * - 최근 사용 순(LRU)으로 최대 like.bitmap.max-users 명까지 유지
+ * - 좋아요/취소 커밋 후 해당 유저 항목만 무효화 → 다음 조회 때 다시 적재
+ */
+@Service
+public class UserLikeCache {
+
+    private final ItemLikeRepository itemLikeRepository;
+    private final CommunityPostLikeRepository postLikeRepository;
+
+    private final Map<Target, LinkedHashMap<String, IdBitmap>> caches = new EnumMap<>(Target.class);
+    // 무효화 세대: 적재 도중 같은 유저가 무효화됐다면 적재 결과(이미 낡은 값)를 캐시에 넣지 않음
+    // 유저 해시로 나눈 스트라이프별 세대 → 다른 유저의 무효화가 진행 중인 적재를 모두 버리게 하지 않음 (캐시 락 안에서만 접근)
+    private static final int GENERATION_STRIPES = 64;
+    private final Map<Target, long[]> generations = new EnumMap<>(Target.class);
+
+    public UserLikeCache(ItemLikeRepository itemLikeRepository,
+                         CommunityPostLikeRepository postLikeRepository,
+                         @Value("${like.bitmap.max-users:10000}") int maxUsers) {
+        this.itemLikeRepository = itemLikeRepository;
+        this.postLikeRepository = postLikeRepository;
+        for (Target target : Target.values()) {
+            caches.put(target, new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, IdBitmap> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+            generations.put(target, new long[GENERATION_STRIPES]);
+        }
+    }
+
+    /** ✅ 여러 ID의 좋아요 여부를 한 번에 조회 (요청 순서 유지) */
+    public Map<Long, Boolean> likedFlags(Target target, String userId, Collection<Long> ids) {
+        Map<Long, Boolean> flags = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) return flags;
+        IdBitmap liked = bitmapOf(target, userId);
+        for (Long id : ids) {
+            if (id != null) flags.put(id, liked.contains(id));
+        }
+        return flags;
+    }
+
+    public boolean isLiked(Target target, String userId, Long id) {
+        return bitmapOf(target, userId).contains(id);
+    }
+
+    /** ✅ 좋아요/취소 트랜잭션 커밋 후 해당 유저 캐시 무효화 */
+    public void invalidateAfterCommit(Target target, String userId) {
+        if (userId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(target, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(target, userId);
+            }
+        });
+    }
+
+    public void invalidate(Target target, String userId) {
+        LinkedHashMap<String, IdBitmap> cache = caches.get(target);
+        synchronized (cache) {
+            generations.get(target)[stripeOf(userId)]++;
+            cache.remove(userId);
+        }
+    }
+
+    private IdBitmap bitmapOf(Target target, String userId) {
+        if (userId == null || userId.isBlank()) return IdBitmap.EMPTY;
+
+        LinkedHashMap<String, IdBitmap> cache = caches.get(target);
+        long generation;
+        synchronized (cache) {
+            IdBitmap cached = cache.get(userId);
+            if (cached != null) return cached;
+            generation = generations.get(target)[stripeOf(userId)];
+        }
+
+        // DB 조회는 락 밖에서 (동시에 같은 유저를 적재하더라도 결과는 동일)
+        IdBitmap loaded = IdBitmap.of(load(target, userId));
+        synchronized (cache) {
+            if (generations.get(target)[stripeOf(userId)] == generation) {
+                cache.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private static int stripeOf(String userId) {
+        return Math.floorMod(userId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private List<Long> load(Target target, String userId) {
+        return switch (target) {
+            case ITEM -> itemLikeRepository.findItemIdsByUserId(userId);
+            case COMMUNITY_POST -> postLikeRepository.findPostIdsByUserId(userId);
+        };
+    }
+}
@@ -1,27 +1,37 @@
 package com.sutalk.backend.domain.location.controller;
 
 import com.sutalk.backend.domain.location.dto.LocationMessageDTO;
-import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.location.service.LocationBroadcastService;
+import com.sutalk.backend.global.config.JWT.StompUserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.Principal;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 public class LocationController {
 
-    private final SimpMessagingTemplate template;
-    private final UserRepository userRepository;
+    private final LocationBroadcastService locationBroadcastService;
 
     @MessageMapping("/location.update")
-    public void handleLocation(LocationMessageDTO message) {
-        // ✅ userId 기반으로 이름 + 프로필 URL 보정
-        userRepository.findByUserid(message.getUserId()).ifPresent(user -> {
-            message.setName(user.getName());
-            message.setProfileImage(user.getProfileImage()); // ✅ URL만 포함
-        });
+    public void handleLocation(LocationMessageDTO message, Principal principal) {
+        // ✅ 인증된 세션이면 Principal 의 userId/프로필 사용 (프레임마다 유저 조회 없음)
+        // ✅ 셀 토픽 전송은 서비스에서 주기적으로 일괄 처리
+        if (principal instanceof StompUserPrincipal user) {
+            locationBroadcastService.submit(message, user.summary());
+            return;
+        }
+        locationBroadcastService.submit(message);
+    }
 
-        template.convertAndSend("/topic/location", message);
+    // ✅ 위치공유 설정 (클라이언트가 구독할 셀 토픽을 서버와 같은 정밀도로 계산하도록)
+    @GetMapping("/api/location/config")
+    public ResponseEntity<Map<String, Object>> getConfig() {
+        return ResponseEntity.ok(Map.of("cellPrecision", locationBroadcastService.getCellPrecision()));
     }
-}
\ No newline at end of file
+}
@@ -15,4 +15,5 @@ public class LocationMessageDTO {
     private double lng;
     private String name;
     private String profileImage;
+    private String cell; // ✅ geohash 셀 (서버에서 계산)
 }
\ No newline at end of file
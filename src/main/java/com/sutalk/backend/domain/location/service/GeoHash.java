@@ -0,0 +1,49 @@
+package com.sutalk.backend.domain.location.service;
+
+/**
+ * ✅ 위경도 → geohash 셀 문자열 (precision 6 ≈ 1.2km × 0.6km)
+ * 프론트 utils/geohash.js 와 같은 알고리즘이어야 셀 토픽이 일치함
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 비트 = 경도
+        int bit = 0, ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+}
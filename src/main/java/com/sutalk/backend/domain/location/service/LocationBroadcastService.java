@@ -0,0 +1,69 @@
+package com.sutalk.backend.domain.location.service;
+
+import com.sutalk.backend.domain.location.dto.LocationMessageDTO;
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
+import com.sutalk.backend.domain.user.service.UserCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 위치 공유 브로드캐스트
+ * - 프로필(이름/이미지)은 UserCache 조회 → GPS 틱마다 DB 조회하지 않음
+ * - 유저별 최신 위치만 보관했다가 주기적으로 한 번에 전송 (coalescing)
+ * - geohash 셀별 토픽(/topic/location/{cell})으로 전송 → 주변 셀 구독자만 수신
+ */
+@Service
+@RequiredArgsConstructor
+public class LocationBroadcastService {
+
+    private final SimpMessagingTemplate template;
+    private final UserCache userCache;
+
+    /** geohash 셀 정밀도 (클라이언트는 GET /api/location/config 로 받아서 같은 값으로 구독) */
+    @Value("${location.cell-precision:6}")
+    private int cellPrecision;
+
+    /** 기존 전체 토픽(/topic/location)에도 보낼지 여부 (구버전 클라이언트 호환용) */
+    @Value("${location.legacy-topic-enabled:false}")
+    private boolean legacyTopicEnabled;
+
+    private final Map<String, LocationMessageDTO> pending = new ConcurrentHashMap<>();
+
+    public int getCellPrecision() {
+        return cellPrecision;
+    }
+
+    /** ✅ 위치 수신: 프로필 보정 + 셀 계산 후 최신값만 보관 */
+    public void submit(LocationMessageDTO message) {
+        if (message.getUserId() == null) return;
+        userCache.getSummary(message.getUserId()).ifPresent(profile -> submit(message, profile));
+    }
+
+    /** ✅ 인증된 STOMP 세션의 위치 수신: 세션 Principal 의 프로필 그대로 사용 */
+    public void submit(LocationMessageDTO message, UserSummaryDTO profile) {
+        message.setUserId(profile.getUserid());
+        message.setName(profile.getName());
+        message.setProfileImage(profile.getProfileImage());
+        message.setCell(GeoHash.encode(message.getLat(), message.getLng(), cellPrecision));
+        pending.put(message.getUserId(), message);
+    }
+
+    /** ✅ 모인 위치를 셀 토픽으로 전송 (유저당 주기마다 최대 1회) */
+    @Scheduled(fixedDelayString = "${location.broadcast-interval-ms:1000}")
+    public void flush() {
+        for (String userId : pending.keySet()) {
+            LocationMessageDTO message = pending.remove(userId);
+            if (message == null) continue;
+            template.convertAndSend("/topic/location/" + message.getCell(), message);
+            if (legacyTopicEnabled) {
+                template.convertAndSend("/topic/location", message);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sutalk.backend.domain.review.controller;
 
+import com.sutalk.backend.domain.review.dto.ReviewPageResponseDTO;
 import com.sutalk.backend.domain.review.dto.ReviewRequestDTO;
 import com.sutalk.backend.domain.review.dto.ReviewResponseDTO;
 import com.sutalk.backend.domain.review.dto.ReviewSummaryDTO;
@@ -35,4 +36,14 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // ✅ 판매자 후기 페이지 조회 (cursor 미지정 시 최신 페이지)
+    @GetMapping("/seller/{sellerId}/page")
+    public ResponseEntity<ReviewPageResponseDTO> getReviewPage(@PathVariable String sellerId,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(defaultValue = "20") int size,
+                                                               @RequestParam(required = false) Integer minRating,
+                                                               @RequestParam(required = false) Integer maxRating) {
+        return ResponseEntity.ok(reviewService.getReviewPage(sellerId, cursor, size, minRating, maxRating));
+    }
+
 }
@@ -0,0 +1,20 @@
+package com.sutalk.backend.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ✅ 판매자 후기 페이지 (최신순)
+ * nextCursor(마지막 후기 ID)를 다음 요청의 cursor 로 그대로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageResponseDTO {
+    private List<ReviewResponseDTO> reviews;
+    private Long nextCursor;
+    private boolean hasMore;
+}
@@ -18,6 +18,7 @@ public class ReviewResponseDTO {
     private String reviewerUserid; // ✅ 추가
     private LocalDateTime createdAt;
     private String itemTitle; // ← 추가
+    private Long reviewId; // ✅ 페이지 커서용
 
     public static ReviewResponseDTO fromEntity(Review review) {
         return ReviewResponseDTO.builder()
@@ -27,6 +28,7 @@ public class ReviewResponseDTO {
                 .reviewerUserid(review.getReviewer().getUserid()) // ✅ 추가
                 .itemTitle(review.getItem().getTitle()) // ← 추가
                 .createdAt(review.getCreatedAt())
+                .reviewId(review.getId())
                 .build();
     }
 }
@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "sutalk_review")
+@Table(name = "sutalk_review", indexes = {
+        @Index(name = "idx_review_reviewee_reviewid", columnList = "revieweeid, reviewid")
+})
 public class Review {
 
     @Id
@@ -0,0 +1,70 @@
+package com.sutalk.backend.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ✅ 판매자별 별점 집계 (합계/개수/별점 분포/최근 구간)
+ * 리뷰 작성 시 같은 트랜잭션에서 증분 갱신되고, 프로필 조회는 이 행 하나만 읽음
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "sutalk_seller_rating_summary")
+public class SellerRatingSummary {
+
+    @Id
+    @Column(name = "userid", length = 255)
+    private String userId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private int ratingCount;
+
+    // 별점 분포 (1~5점 각각의 개수)
+    @Column(name = "rating1_count", nullable = false)
+    private int rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private int rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private int rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private int rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private int rating5Count;
+
+    // 최근 구간(review.summary.recent-days) 합계/개수 — 구간 밖으로 밀려난 리뷰는 재집계 작업이 정리
+    @Column(name = "recent_sum", nullable = false)
+    private long recentSum;
+
+    @Column(name = "recent_count", nullable = false)
+    private int recentCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public double getAverageRating() {
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
+
+    public double getRecentAverageRating() {
+        return recentCount == 0 ? 0.0 : (double) recentSum / recentCount;
+    }
+
+    /** 1점부터 5점 순서의 개수 목록 */
+    public List<Integer> getHistogram() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+}
@@ -3,6 +3,8 @@ package com.sutalk.backend.domain.review.repository;
 import com.sutalk.backend.domain.item.entity.Item;
 import com.sutalk.backend.domain.review.entity.Review;
 import com.sutalk.backend.domain.user.entity.User;
+import com.sutalk.backend.domain.review.dto.ReviewResponseDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -42,4 +44,31 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             "WHERE r.reviewee.userid = :sellerId " +
             "ORDER BY r.createdAt DESC")
     List<ReviewSummaryDTO> findReviewSummariesBySellerId(@Param("sellerId") String sellerId);
+
+    // ✅ 상세 후기 목록 (작성자/상품 제목까지 조인 1회, 엔티티 로딩 없음)
+    @Query("SELECT new com.sutalk.backend.domain.review.dto.ReviewResponseDTO(" +
+            "r.rating, r.comment, u.name, u.userid, r.createdAt, i.title, r.id) " +
+            "FROM Review r " +
+            "JOIN r.reviewer u " +
+            "JOIN r.item i " +
+            "WHERE r.reviewee.userid = :sellerId " +
+            "ORDER BY r.id DESC")
+    List<ReviewResponseDTO> findResponsesBySellerId(@Param("sellerId") String sellerId);
+
+    // ✅ 키셋 페이지 (reviewid 내림차순 = 최신순, cursor 이전 + 별점 범위 필터)
+    @Query("SELECT new com.sutalk.backend.domain.review.dto.ReviewResponseDTO(" +
+            "r.rating, r.comment, u.name, u.userid, r.createdAt, i.title, r.id) " +
+            "FROM Review r " +
+            "JOIN r.reviewer u " +
+            "JOIN r.item i " +
+            "WHERE r.reviewee.userid = :sellerId " +
+            "AND (:cursor IS NULL OR r.id < :cursor) " +
+            "AND (:minRating IS NULL OR r.rating >= :minRating) " +
+            "AND (:maxRating IS NULL OR r.rating <= :maxRating) " +
+            "ORDER BY r.id DESC")
+    List<ReviewResponseDTO> findPageBySellerId(@Param("sellerId") String sellerId,
+                                               @Param("cursor") Long cursor,
+                                               @Param("minRating") Integer minRating,
+                                               @Param("maxRating") Integer maxRating,
+                                               Pageable pageable);
 }
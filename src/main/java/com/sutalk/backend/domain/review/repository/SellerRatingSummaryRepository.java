@@ -0,0 +1,7 @@
+package com.sutalk.backend.domain.review.repository;
+
+import com.sutalk.backend.domain.review.entity.SellerRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SellerRatingSummaryRepository extends JpaRepository<SellerRatingSummary, String> {
+}
@@ -1,5 +1,6 @@
 package com.sutalk.backend.domain.review.service;
 
+import com.sutalk.backend.domain.review.dto.ReviewPageResponseDTO;
 import com.sutalk.backend.domain.review.dto.ReviewRequestDTO;
 import com.sutalk.backend.domain.review.dto.ReviewResponseDTO;
 import com.sutalk.backend.domain.review.dto.ReviewSummaryDTO;
@@ -10,12 +11,14 @@ import com.sutalk.backend.domain.user.entity.User;
 import com.sutalk.backend.domain.item.repository.ItemRepository;
 import com.sutalk.backend.domain.transaction.repository.ItemTransactionRepository;
 import com.sutalk.backend.domain.review.repository.ReviewRepository;
-import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,47 +26,58 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ItemTransactionRepository itemTransactionRepository;
+    private final SellerRatingSummaryService sellerRatingSummaryService;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     /**
      * ✅ 판매자 기준 리뷰 요약 조회 (닉네임 = name 으로 표시)
      */
     public List<ReviewSummaryDTO> getReviewSummariesBySeller(String sellerId) {
-        // 기존: return reviewRepository.findReviewSummariesBySellerId(sellerId);
-        // 수정: 엔티티 직접 조회 + 변환
-        List<Review> reviews = reviewRepository.findByReviewee_UseridOrderByCreatedAtDesc(sellerId);
-        return reviews.stream()
-                .map(r -> new ReviewSummaryDTO(
-                        r.getComment(),
-                        r.getRating(),
-                        r.getCreatedAt(),
-                        r.getReviewer().getName(),   // ✅ name 사용
-                        r.getItem().getTitle()
-                ))
-                .collect(Collectors.toList());
+        // ✅ 생성자 프로젝션 1회 조회 (작성자/상품 지연 로딩 N+1 제거)
+        return reviewRepository.findReviewSummariesBySellerId(sellerId);
     }
 
     /**
      * ✅ 판매자 기준 상세 리뷰 조회
      */
     public List<ReviewResponseDTO> getReviewsBySellerDetailed(String sellerId) {
-        List<Review> reviews = reviewRepository.findByReviewee_UseridOrderByCreatedAtDesc(sellerId);
-        return reviews.stream()
-                .map(ReviewResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return reviewRepository.findResponsesBySellerId(sellerId);
+    }
+
+    /**
+     * ✅ 판매자 후기 키셋 페이지 (페이지당 쿼리 1회, 후기 수와 무관하게 일정한 비용)
+     * minRating/maxRating 은 선택 필터 (같은 값을 주면 특정 별점만)
+     */
+    @Transactional(readOnly = true)
+    public ReviewPageResponseDTO getReviewPage(String sellerId, Long cursor, int size,
+                                               Integer minRating, Integer maxRating) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // ✅ 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ReviewResponseDTO> rows = new ArrayList<>(reviewRepository.findPageBySellerId(
+                sellerId, cursor, minRating, maxRating, PageRequest.of(0, pageSize + 1)));
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        Long nextCursor = hasMore ? rows.get(rows.size() - 1).getReviewId() : null;
+        return new ReviewPageResponseDTO(rows, nextCursor, hasMore);
     }
 
     /**
-     * ✅ 리뷰 작성
+     * ✅ 리뷰 작성 (판매자 별점 집계도 같은 트랜잭션에서 갱신)
      */
+    @Transactional
     public void createReview(ReviewRequestDTO dto) {
+        SellerRatingSummaryService.validate(dto.getRating());
+
         Item item = itemRepository.findById(dto.getItemId())
                 .orElseThrow(() -> new IllegalArgumentException("Item not found"));
-        User buyer = userRepository.findById(dto.getBuyerId())
-                .orElseThrow(() -> new IllegalArgumentException("Buyer not found"));
-        User reviewee = userRepository.findById(dto.getRevieweeId())
-                .orElseThrow(() -> new IllegalArgumentException("Reviewee not found"));
+        User buyer = userCache.getReference(dto.getBuyerId(), () -> new IllegalArgumentException("Buyer not found"));
+        User reviewee = userCache.getReference(dto.getRevieweeId(), () -> new IllegalArgumentException("Reviewee not found"));
         ItemTransaction transaction = itemTransactionRepository.findById(dto.getTransactionId())
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
 
@@ -81,5 +95,6 @@ public class ReviewService {
         review.setComment(dto.getComment());
 
         reviewRepository.save(review);
+        sellerRatingSummaryService.onReview(dto.getRevieweeId(), dto.getRating());
     }
 }
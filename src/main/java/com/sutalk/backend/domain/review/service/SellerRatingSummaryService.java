@@ -0,0 +1,205 @@
+package com.sutalk.backend.domain.review.service;
+
+import com.sutalk.backend.domain.review.entity.SellerRatingSummary;
+import com.sutalk.backend.domain.review.repository.SellerRatingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ✅ 판매자 별점 집계(sutalk_seller_rating_summary) 유지
+ * - 리뷰 작성: 같은 트랜잭션에서 upsert 한 번으로 합계/개수/분포/최근 구간 증가
+ * - 재집계: 리뷰 테이블을 판매자 순 스트리밍 커서로 한 번 훑으며 판매자 단위로 다시 계산
+ *   (최근 구간에서 밀려난 리뷰 정리 + 누적 오차 보정)
+ */
+@Service
+@RequiredArgsConstructor
+public class SellerRatingSummaryService {
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String ON_REVIEW_SQL = """
+            INSERT INTO sutalk_seller_rating_summary
+                (userid, rating_sum, rating_count, rating1_count, rating2_count, rating3_count, rating4_count,
+                 rating5_count, recent_sum, recent_count, updated_at)
+            VALUES (?, ?, 1, ?, ?, ?, ?, ?, ?, 1, ?)
+            ON DUPLICATE KEY UPDATE
+                rating_sum = rating_sum + VALUES(rating_sum),
+                rating_count = rating_count + 1,
+                rating1_count = rating1_count + VALUES(rating1_count),
+                rating2_count = rating2_count + VALUES(rating2_count),
+                rating3_count = rating3_count + VALUES(rating3_count),
+                rating4_count = rating4_count + VALUES(rating4_count),
+                rating5_count = rating5_count + VALUES(rating5_count),
+                recent_sum = recent_sum + VALUES(recent_sum),
+                recent_count = recent_count + 1,
+                updated_at = VALUES(updated_at)
+            """;
+
+    /**
+     * 재집계 결과 기록: 기준 시각(재집계 시작 - guard) 이후 리뷰 작성으로 갱신된 행은 건드리지 않음
+     * (VALUES(updated_at) = 기준 시각, updated_at 은 비교 기준이므로 반드시 마지막에 대입)
+     */
+    private static final String REBUILD_UPSERT_SQL = """
+            INSERT INTO sutalk_seller_rating_summary
+                (userid, rating_sum, rating_count, rating1_count, rating2_count, rating3_count, rating4_count,
+                 rating5_count, recent_sum, recent_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                rating_sum = IF(updated_at < VALUES(updated_at), VALUES(rating_sum), rating_sum),
+                rating_count = IF(updated_at < VALUES(updated_at), VALUES(rating_count), rating_count),
+                rating1_count = IF(updated_at < VALUES(updated_at), VALUES(rating1_count), rating1_count),
+                rating2_count = IF(updated_at < VALUES(updated_at), VALUES(rating2_count), rating2_count),
+                rating3_count = IF(updated_at < VALUES(updated_at), VALUES(rating3_count), rating3_count),
+                rating4_count = IF(updated_at < VALUES(updated_at), VALUES(rating4_count), rating4_count),
+                rating5_count = IF(updated_at < VALUES(updated_at), VALUES(rating5_count), rating5_count),
+                recent_sum = IF(updated_at < VALUES(updated_at), VALUES(recent_sum), recent_sum),
+                recent_count = IF(updated_at < VALUES(updated_at), VALUES(recent_count), recent_count),
+                updated_at = IF(updated_at < VALUES(updated_at), VALUES(updated_at), updated_at)
+            """;
+
+    private static final String STREAM_REVIEWS_SQL =
+            "SELECT revieweeid, rating, created_at FROM sutalk_review ORDER BY revieweeid";
+
+    private final SellerRatingSummaryRepository summaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${review.summary.recent-days:90}")
+    private int recentDays;
+
+    /**
+     * onReview 의 updated_at 은 커밋 시각이 아니라 문장 실행 시각
+     * → 재집계 시작 직전에 반영됐지만 스트리밍 조회 이후에 커밋된 리뷰가 덮어써지지 않도록,
+     *   시작 시각보다 이만큼 앞을 기준으로 그 이후 갱신된 행은 이번 재집계에서 건너뜀 (리뷰 트랜잭션 최대 길이보다 크게)
+     */
+    @Value("${review.summary.rebuild-guard-seconds:60}")
+    private long rebuildGuardSeconds;
+
+    public Optional<SellerRatingSummary> find(String userId) {
+        return summaryRepository.findById(userId);
+    }
+
+    /** ✅ 리뷰 1건 반영 (호출 측 트랜잭션에 참여) */
+    public void onReview(String revieweeId, int rating) {
+        validate(rating);
+        jdbcTemplate.update(ON_REVIEW_SQL,
+                revieweeId, rating,
+                bin(rating, 1), bin(rating, 2), bin(rating, 3), bin(rating, 4), bin(rating, 5),
+                rating, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public static void validate(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new IllegalArgumentException("별점은 " + MIN_RATING + "~" + MAX_RATING + " 사이여야 합니다.");
+        }
+    }
+
+    /** ✅ 집계 테이블이 비어 있으면 기동 시 1회 생성 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (summaryRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * ✅ 전체 재집계 (매일 새벽)
+     * 트랜잭션 없이 실행: 스트리밍 커서는 자기 커넥션을 쓰고, 배치 upsert 는 풀의 다른 커넥션으로 나감
+     * 기준 시각 이후 리뷰가 반영된 판매자는 증분 값을 유지하고 다음 재집계에서 보정
+     */
+    @Scheduled(cron = "${review.summary.rebuild-cron:0 0 4 * * *}")
+    public synchronized void rebuild() {
+        long begin = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime recentFrom = startedAt.minusDays(recentDays);
+        Timestamp cutoff = Timestamp.valueOf(startedAt.minusSeconds(rebuildGuardSeconds));
+
+        List<Object[]> batch = new ArrayList<>();
+        Accumulator[] current = {null};
+        int[] sellers = {0};
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STREAM_REVIEWS_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            String revieweeId = rs.getString(1);
+            if (current[0] == null || !current[0].userId.equals(revieweeId)) {
+                if (current[0] != null) {
+                    batch.add(current[0].toRow(cutoff));
+                    sellers[0]++;
+                    if (batch.size() >= REBUILD_BATCH_SIZE) flushRebuild(batch);
+                }
+                current[0] = new Accumulator(revieweeId);
+            }
+            Timestamp createdAt = rs.getTimestamp(3);
+            boolean recent = createdAt != null && !createdAt.toLocalDateTime().isBefore(recentFrom);
+            current[0].add(rs.getInt(2), recent);
+        });
+        if (current[0] != null) {
+            batch.add(current[0].toRow(cutoff));
+            sellers[0]++;
+        }
+        flushRebuild(batch);
+
+        // 리뷰가 하나도 남지 않은 판매자 행 정리 (재집계한 행 = 기준 시각, 그 이후 갱신된 행은 더 큼)
+        jdbcTemplate.update("DELETE FROM sutalk_seller_rating_summary WHERE updated_at < ?", cutoff);
+
+        System.out.println("⭐ [SellerRatingSummary] 재집계 완료: 판매자 " + sellers[0] + "명, "
+                + (System.currentTimeMillis() - begin) + "ms");
+    }
+
+    private void flushRebuild(List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(REBUILD_UPSERT_SQL, batch);
+        batch.clear();
+    }
+
+    private static int bin(int rating, int value) {
+        return rating == value ? 1 : 0;
+    }
+
+    private static final class Accumulator {
+        final String userId;
+        long sum;
+        int count;
+        final int[] histogram = new int[MAX_RATING + 1];
+        long recentSum;
+        int recentCount;
+
+        Accumulator(String userId) {
+            this.userId = userId;
+        }
+
+        void add(int rating, boolean recent) {
+            sum += rating;
+            count++;
+            if (rating >= MIN_RATING && rating <= MAX_RATING) histogram[rating]++;
+            if (recent) {
+                recentSum += rating;
+                recentCount++;
+            }
+        }
+
+        Object[] toRow(Timestamp updatedAt) {
+            return new Object[]{userId, sum, count,
+                    histogram[1], histogram[2], histogram[3], histogram[4], histogram[5],
+                    recentSum, recentCount, updatedAt};
+        }
+    }
+}
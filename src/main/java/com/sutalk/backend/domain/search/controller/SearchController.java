@@ -36,6 +36,13 @@ public class SearchController {
         return ResponseEntity.ok(searchService.getItemSuggestions(keyword));
     }
 
+    // ✅ 검색창 자동완성 (키 입력마다 호출, 초성 검색 지원)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(@RequestParam String prefix,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.getAutocomplete(prefix, limit));
+    }
+
     // ✅ 검색 기록 조회
     @GetMapping
     public ResponseEntity<List<String>> getSearchHistory(@RequestParam String userId) {
@@ -3,6 +3,8 @@ package com.sutalk.backend.domain.search.repository;
 import com.sutalk.backend.domain.history.entity.History;
 import com.sutalk.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,7 +14,15 @@ public interface SearchHistoryRepository extends JpaRepository<History, Long> {
 
     List<History> findAllByUserOrderBySearchAtDesc(User user);
 
-    void deleteByUserAndKeyword(User user, String keyword);
+    long deleteByUserAndKeyword(User user, String keyword);
 
     void deleteAllByUser(User user);
+
+    // ✅ 자동완성 가중치용: 키워드별 검색 사용자 수 → [keyword, count]
+    @Query("SELECT h.keyword, COUNT(h) FROM History h GROUP BY h.keyword")
+    List<Object[]> countByKeyword();
+
+    // ✅ 전체 삭제 전 가중치 차감용: 한 사용자의 키워드별 기록 수 → [keyword, count]
+    @Query("SELECT h.keyword, COUNT(h) FROM History h WHERE h.user = :user GROUP BY h.keyword")
+    List<Object[]> countByKeywordForUser(@Param("user") User user);
 }
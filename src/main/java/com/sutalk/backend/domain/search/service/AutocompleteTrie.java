@@ -0,0 +1,130 @@
+package com.sutalk.backend.domain.search.service;
+
+import java.util.*;
+
+/**
+ * ✅ 자동완성용 가중치 트라이
+ * - 각 노드가 하위 전체에서 가중치 상위 K개 후보를 미리 들고 있어 조회는 O(접두어 길이)
+ * - 가중치 변경 시 해당 키의 경로만 아래→위로 재계산
+ * - 스레드 안전하지 않음 (SearchAutocompleteService 에서 락으로 보호)
+ */
+class AutocompleteTrie {
+
+    private final int topK;
+    private final Node root = new Node(null);
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    AutocompleteTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * ✅ 키의 가중치를 delta 만큼 변경 (0 이하가 되면 제거)
+     * @param recompute false 면 상위 K 캐시 갱신을 미룸 (대량 적재 후 recomputeAll 호출)
+     */
+    void add(String key, String display, long delta, boolean recompute) {
+        if (key == null || key.isEmpty() || delta == 0) return;
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (delta < 0) return;
+            entry = new Entry(display, 0);
+            entries.put(key, entry);
+        }
+        entry.weight += delta;
+
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node(null));
+        }
+        if (entry.weight <= 0) {
+            entries.remove(key);
+            node.terminal = null;
+        } else {
+            node.terminal = entry;
+        }
+
+        if (recompute) {
+            recomputePath(key);
+        }
+    }
+
+    /** ✅ 접두어에 해당하는 상위 limit개 표시 문자열 */
+    List<String> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) return List.of();
+        return node.top.stream().limit(limit).map(e -> e.display).toList();
+    }
+
+    /** ✅ 전체 노드 상위 K 캐시를 후위 순회로 재계산 (대량 적재 후 1회) */
+    void recomputeAll() {
+        recomputeSubtree(root);
+    }
+
+    private void recomputeSubtree(Node node) {
+        for (Node child : node.children.values()) {
+            recomputeSubtree(child);
+        }
+        recompute(node);
+    }
+
+    private void recomputePath(String key) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            if (node != null) path.push(node);
+        }
+        while (!path.isEmpty()) {
+            Node current = path.pop();
+            recompute(current);
+            // 비어 버린 리프는 정리해서 메모리 회수
+            if (!path.isEmpty() && current.terminal == null && current.children.isEmpty()) {
+                path.peek().children.values().remove(current);
+            }
+        }
+    }
+
+    private void recompute(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.terminal != null) candidates.add(node.terminal);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(Entry.ORDER);
+        node.top = candidates.size() > topK ? List.copyOf(candidates.subList(0, topK)) : List.copyOf(candidates);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Entry terminal;
+        private List<Entry> top = List.of();
+
+        private Node(Entry terminal) {
+            this.terminal = terminal;
+        }
+    }
+
+    private static final class Entry {
+        /** 가중치 내림차순, 동점이면 짧은 문자열 → 사전순 */
+        private static final Comparator<Entry> ORDER = Comparator.<Entry>comparingLong(e -> -e.weight)
+                .thenComparingInt(e -> e.display.length())
+                .thenComparing(e -> e.display);
+
+        private final String display;
+        private long weight;
+
+        private Entry(String display, long weight) {
+            this.display = display;
+            this.weight = weight;
+        }
+    }
+}
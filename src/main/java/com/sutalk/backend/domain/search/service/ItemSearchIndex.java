@@ -0,0 +1,235 @@
+package com.sutalk.backend.domain.search.service;
+
+import com.sutalk.backend.domain.item.entity.Item;
+import com.sutalk.backend.domain.item.repository.ItemImageRepository;
+import com.sutalk.backend.domain.item.repository.ItemRepository;
+import com.sutalk.backend.domain.search.dto.ItemSuggestionDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ✅ 상품 제목/설명 전문 검색용 인메모리 역색인
+ * - n-gram 토큰 → (itemId → TF) 포스팅 리스트
+ * - BM25 점수로 정렬 후 상위 k개만 힙으로 추출
+ * - ItemService 의 등록/수정/삭제 커밋 이후 증분 반영
+ * - 전체 재색인 도중 증분 반영된 상품은 재색인이 읽은 (더 오래된) 값으로 덮어쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 2; // 제목 토큰은 설명보다 2배 가중
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final ItemRepository itemRepository;
+    private final ItemImageRepository itemImageRepository;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedItem> documents = new HashMap<>();
+    private long totalLength = 0;
+    // 재색인 중에만 존재: 그 사이 증분 반영(색인/삭제)된 상품 ID (쓰기 잠금으로 보호)
+    private Set<Long> touchedDuringRebuild;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** ✅ 서버 기동 시 전체 상품 색인 (페이지 단위로 읽어 힙 사용량 제한) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        setRebuilding(true);
+        try {
+            int page = 0;
+            Page<Item> slice;
+            do {
+                slice = itemRepository.findAll(PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("itemid")));
+                Map<Long, String> thumbnails = findThumbnails(slice.getContent());
+                for (Item item : slice.getContent()) {
+                    String thumbnail = item.getThumbnail() != null ? item.getThumbnail() : thumbnails.get(item.getItemid());
+                    index(item.getItemid(), item.getTitle(), item.getDescription(), thumbnail, true);
+                }
+            } while (slice.hasNext());
+        } finally {
+            setRebuilding(false);
+        }
+        System.out.println("🔎 [ItemSearchIndex] 색인 완료: " + size() + "건, "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private Map<Long, String> findThumbnails(List<Item> items) {
+        Map<Long, String> thumbnails = new HashMap<>();
+        if (items.isEmpty()) return thumbnails;
+        List<Long> ids = items.stream().map(Item::getItemid).toList();
+        for (Object[] row : itemImageRepository.findPhotoPathsByItemIds(ids)) {
+            thumbnails.putIfAbsent((Long) row[0], (String) row[1]);
+        }
+        return thumbnails;
+    }
+
+    private void setRebuilding(boolean rebuilding) {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = rebuilding ? new HashSet<>() : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** ✅ 상품 색인 (이미 존재하면 교체) */
+    public void index(Long itemId, String title, String description, String thumbnail) {
+        index(itemId, title, description, thumbnail, false);
+    }
+
+    /** fromRebuild: 재색인이 읽은 값 → 재색인 시작 후 증분 반영된 상품이면 건너뜀 (커밋 이후 값이 더 최신) */
+    private void index(Long itemId, String title, String description, String thumbnail, boolean fromRebuild) {
+        if (itemId == null) return;
+
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : KoreanNgramTokenizer.tokenizeForIndex(title)) {
+            terms.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : KoreanNgramTokenizer.tokenizeForIndex(description)) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (!markTouched(itemId, fromRebuild)) return;
+            removeInternal(itemId);
+            documents.put(itemId, new IndexedItem(itemId, title, thumbnail, length, terms));
+            terms.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(itemId, tf));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** ✅ 이미지 후처리 완료 후 추천 결과의 썸네일만 축소본으로 교체 (토큰은 그대로) */
+    public void updateThumbnail(Long itemId, String thumbnail) {
+        lock.writeLock().lock();
+        try {
+            IndexedItem existing = documents.get(itemId);
+            if (existing == null) return;
+            documents.put(itemId, new IndexedItem(itemId, existing.title(), thumbnail, existing.length(), existing.terms()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** ✅ 상품 색인 제거 */
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            markTouched(itemId, false);
+            removeInternal(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 쓰기 잠금 안에서 호출: 재색인 중 증분 반영 기록, 재색인 쪽 반영이 이미 밀린 상품이면 false */
+    private boolean markTouched(Long itemId, boolean fromRebuild) {
+        if (touchedDuringRebuild == null) return true;
+        if (fromRebuild) return !touchedDuringRebuild.contains(itemId);
+        touchedDuringRebuild.add(itemId);
+        return true;
+    }
+
+    private void removeInternal(Long itemId) {
+        IndexedItem existing = documents.remove(itemId);
+        if (existing == null) return;
+        for (String term : existing.terms().keySet()) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list == null) continue;
+            list.remove(itemId);
+            if (list.isEmpty()) postings.remove(term);
+        }
+        totalLength -= existing.length();
+    }
+
+    /**
+     * ✅ 검색어의 모든 토큰을 포함하는 상품을 BM25 점수순으로 상위 limit개 반환
+     * (기존 LIKE '%kw%' 와 같은 "모두 포함" 의미 유지)
+     */
+    public List<ItemSuggestionDTO> search(String keyword, int limit) {
+        List<String> queryTerms = KoreanNgramTokenizer.tokenizeForQuery(keyword).stream().distinct().toList();
+        if (queryTerms.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0) return List.of();
+            double avgLength = (double) totalLength / docCount;
+
+            // ✅ 가장 짧은 포스팅 리스트부터 순회해서 후보 수 최소화
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) return List.of();
+                lists.add(list);
+            }
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < lists.size(); i++) order.add(i);
+            order.sort(Comparator.comparingInt(i -> lists.get(i).size()));
+
+            PriorityQueue<ScoredItem> heap = new PriorityQueue<>(limit + 1);
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : lists.get(order.get(0)).entrySet()) {
+                Long itemId = candidate.getKey();
+                IndexedItem doc = documents.get(itemId);
+                double score = 0;
+                for (int i : order) {
+                    Integer tf = lists.get(i).get(itemId);
+                    if (tf == null) continue candidates;
+                    score += bm25(tf, lists.get(i).size(), docCount, doc.length(), avgLength);
+                }
+                heap.offer(new ScoredItem(doc, score));
+                if (heap.size() > limit) heap.poll();
+            }
+
+            List<ScoredItem> top = new ArrayList<>(heap);
+            top.sort(Comparator.reverseOrder());
+            return top.stream()
+                    .map(s -> new ItemSuggestionDTO(s.item().itemId(), s.item().title(), s.item().thumbnail()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double bm25(int tf, int df, int docCount, int docLength, double avgLength) {
+        double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+        double norm = tf + K1 * (1 - B + B * docLength / avgLength);
+        return idf * (tf * (K1 + 1)) / norm;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedItem(Long itemId, String title, String thumbnail, int length, Map<String, Integer> terms) {
+    }
+
+    /** 점수 오름차순(동점이면 오래된 상품이 먼저) → min-heap 에서 약한 후보부터 제거 */
+    private record ScoredItem(IndexedItem item, double score) implements Comparable<ScoredItem> {
+        @Override
+        public int compareTo(ScoredItem other) {
+            int cmp = Double.compare(score, other.score);
+            return cmp != 0 ? cmp : Long.compare(item.itemId(), other.item.itemId());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.sutalk.backend.domain.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ✅ 한글/영문 공용 n-gram 토크나이저
+ * - 공백·특수문자 기준으로 단어를 나눈 뒤 음절 단위 1-gram + 2-gram 생성
+ * - 형태소 분석 없이도 "폰" / "아이폰" / "이폰" 같은 부분 일치 검색이 가능
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /** ✅ 색인용 토큰: 모든 1-gram + 2-gram (중복 포함, TF 계산용) */
+    public static List<String> tokenizeForIndex(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : splitWords(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /** ✅ 검색어 토큰: 한 글자 단어는 1-gram, 그 외는 2-gram */
+    public static List<String> tokenizeForQuery(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : splitWords(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /** ✅ NFC 정규화(자모 조합) + 소문자화 후 글자/숫자 단위로 단어 분리 */
+    static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) return words;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,171 @@
+package com.sutalk.backend.domain.search.service;
+
+import com.sutalk.backend.domain.item.repository.ItemRepository;
+import com.sutalk.backend.domain.search.repository.SearchHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ✅ 검색창 자동완성 (키 입력마다 호출되므로 DB 접근 없이 메모리에서만 응답)
+ * - 후보: 상품 제목 + 전체 사용자 검색 기록 키워드
+ * - 가중치: 같은 제목의 상품 수 + 해당 키워드를 검색한 사용자 수
+ * - "ㅇㅇㅍ" 같은 초성 입력은 초성 트라이에서 매칭
+ * - 전체 재적재 도중 들어온 증감은 기록해 두었다가 새 트라이로 교체한 뒤 다시 적용 (교체로 유실되지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchAutocompleteService {
+
+    private static final int TOP_K = 10;
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final ItemRepository itemRepository;
+    private final SearchHistoryRepository searchHistoryRepository;
+
+    private AutocompleteTrie textTrie = new AutocompleteTrie(TOP_K);
+    private AutocompleteTrie choseongTrie = new AutocompleteTrie(TOP_K);
+    // 재적재 중에만 존재: 그 사이 기존 트라이에 반영된 증감 (쓰기 잠금으로 보호)
+    private List<Adjustment> adjustedDuringRebuild;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Adjustment(String phrase, long delta) {
+    }
+
+    /** ✅ 서버 기동 시 전체 적재 후 교체 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            adjustedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        AutocompleteTrie text = new AutocompleteTrie(TOP_K);
+        AutocompleteTrie choseong = new AutocompleteTrie(TOP_K);
+
+        for (String title : itemRepository.findAllTitles()) {
+            put(text, choseong, title, 1, false);
+        }
+        for (Object[] row : searchHistoryRepository.countByKeyword()) {
+            put(text, choseong, (String) row[0], (Long) row[1], false);
+        }
+        text.recomputeAll();
+        choseong.recomputeAll();
+
+        lock.writeLock().lock();
+        try {
+            for (Adjustment adjustment : adjustedDuringRebuild) {
+                put(text, choseong, adjustment.phrase(), adjustment.delta(), true);
+            }
+            adjustedDuringRebuild = null;
+            textTrie = text;
+            choseongTrie = choseong;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("🔤 [Autocomplete] 적재 완료: " + text.size() + "건, "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    /** ✅ 접두어 자동완성 */
+    public List<String> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+        int size = Math.max(1, Math.min(limit, TOP_K));
+
+        lock.readLock().lock();
+        try {
+            return containsJamo(key)
+                    ? choseongTrie.complete(toChoseong(key), size)
+                    : textTrie.complete(key, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** ✅ 후보 가중치 증감 (상품 등록/삭제, 검색 기록 추가/삭제 시 호출) */
+    public void adjust(String phrase, long delta) {
+        lock.writeLock().lock();
+        try {
+            apply(phrase, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** ✅ 상품 제목 변경 */
+    public void replace(String oldPhrase, String newPhrase) {
+        if (normalize(oldPhrase).equals(normalize(newPhrase))) return;
+        lock.writeLock().lock();
+        try {
+            apply(oldPhrase, -1);
+            apply(newPhrase, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 쓰기 잠금 안에서 호출: 현재 트라이에 반영 + 재적재 중이면 교체 후 다시 적용하도록 기록 */
+    private void apply(String phrase, long delta) {
+        put(textTrie, choseongTrie, phrase, delta, true);
+        if (adjustedDuringRebuild != null) {
+            adjustedDuringRebuild.add(new Adjustment(phrase, delta));
+        }
+    }
+
+    private void put(AutocompleteTrie text, AutocompleteTrie choseong,
+                     String phrase, long delta, boolean recompute) {
+        String key = normalize(phrase);
+        if (key.isEmpty()) return;
+        String display = phrase.trim();
+        text.add(key, display, delta, recompute);
+        // 초성이 같은 서로 다른 문구("사과"/"수건")가 한 항목으로 합쳐지지 않도록 원문 키를 뒤에 붙임
+        choseong.add(toChoseong(key) + '\u0000' + key, display, delta, recompute);
+    }
+
+    /** NFC 정규화 + 소문자 + 연속 공백 축약 */
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /** 완성형 한글 음절 → 초성 호환 자모, 그 외 문자는 그대로 */
+    static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSEONG[(c - HANGUL_BASE) / (21 * 28)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean containsJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') return true;
+        }
+        return false;
+    }
+}
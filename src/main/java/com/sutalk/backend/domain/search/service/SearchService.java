@@ -3,15 +3,17 @@ package com.sutalk.backend.domain.search.service;
 import com.sutalk.backend.domain.search.dto.ItemSuggestionDTO;
 import com.sutalk.backend.domain.history.entity.History;
 import com.sutalk.backend.domain.user.entity.User;
-import com.sutalk.backend.domain.item.repository.ItemRepository;
 import com.sutalk.backend.domain.search.repository.SearchHistoryRepository;
-import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,25 +22,29 @@ import java.util.stream.Collectors;
 public class SearchService {
 
     private final SearchHistoryRepository searchHistoryRepository;
-    private final UserRepository userRepository;
-    private final ItemRepository itemRepository;
+    private final UserCache userCache;
+    private final ItemSearchIndex itemSearchIndex;
+    private final SearchAutocompleteService autocompleteService;
 
-    // ✅ 상품 기반 추천어
+    // ✅ 상품 기반 추천어 (인메모리 역색인 조회, DB 접근 없음)
     public List<ItemSuggestionDTO> getItemSuggestions(String keyword) {
-        return itemRepository.findTop10ByKeyword(keyword).stream()
-                .map(item -> new ItemSuggestionDTO(
-                        item.getItemid(),
-                        item.getTitle(),
-                        (item.getItemImages() == null || item.getItemImages().isEmpty())
-                                ? "/default-image.png"
-                                : item.getItemImages().iterator().next().getPhotoPath()
+        return itemSearchIndex.search(keyword, 10).stream()
+                .map(s -> new ItemSuggestionDTO(
+                        s.getItemId(),
+                        s.getTitle(),
+                        s.getThumbnail() != null ? s.getThumbnail() : "/default-image.png"
                 ))
                 .collect(Collectors.toList());
     }
 
+    // ✅ 검색창 자동완성 (상품 제목 + 인기 검색어, 초성 지원)
+    public List<String> getAutocomplete(String prefix, int limit) {
+        return autocompleteService.complete(prefix, limit);
+    }
+
     // ✅ 검색 기록 조회
     public List<String> getSearchHistory(String userId) {
-        User user = userRepository.findById(userId).orElseThrow();
+        User user = userCache.getReference(userId, NoSuchElementException::new);
         return searchHistoryRepository.findAllByUserOrderBySearchAtDesc(user)
                 .stream()
                 .map(History::getKeyword)
@@ -48,8 +54,11 @@ public class SearchService {
     // ✅ 검색 기록 추가
     @Transactional
     public void addSearchHistory(String userId, String keyword) {
-        User user = userRepository.findById(userId).orElseThrow();
-        searchHistoryRepository.deleteByUserAndKeyword(user, keyword);
+        User user = userCache.getReference(userId, NoSuchElementException::new);
+        long existing = searchHistoryRepository.deleteByUserAndKeyword(user, keyword);
+        if (existing == 0) {
+            afterCommit(() -> autocompleteService.adjust(keyword, 1)); // 새로 검색한 사용자만 가중치 반영
+        }
         History history = History.builder()
                 .user(user)
                 .keyword(keyword)
@@ -61,14 +70,33 @@ public class SearchService {
     // ✅ 검색 기록 삭제
     @Transactional
     public void deleteSearchHistory(String userId, String keyword) {
-        User user = userRepository.findById(userId).orElseThrow();
-        searchHistoryRepository.deleteByUserAndKeyword(user, keyword);
+        User user = userCache.getReference(userId, NoSuchElementException::new);
+        long deleted = searchHistoryRepository.deleteByUserAndKeyword(user, keyword);
+        if (deleted > 0) {
+            afterCommit(() -> autocompleteService.adjust(keyword, -deleted));
+        }
     }
 
     // ✅ 전체 검색 기록 삭제
     @Transactional
     public void deleteAllSearchHistory(String userId) {
-        User user = userRepository.findById(userId).orElseThrow();
+        User user = userCache.getReference(userId, NoSuchElementException::new);
+        List<Object[]> counts = searchHistoryRepository.countByKeywordForUser(user);
         searchHistoryRepository.deleteAllByUser(user);
+        afterCommit(() -> counts.forEach(row -> autocompleteService.adjust((String) row[0], -(Long) row[1])));
+    }
+
+    /** ✅ 커밋 이후 자동완성 가중치 반영 (롤백 시 가중치 오염 방지) */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -2,24 +2,27 @@ package com.sutalk.backend.domain.user.controller;
 
 import com.sutalk.backend.domain.user.dto.LoginResponseDTO;
 import com.sutalk.backend.domain.user.dto.UserProfileResponseDTO;
-import com.sutalk.backend.domain.review.entity.Review;
+import com.sutalk.backend.domain.review.dto.ReviewResponseDTO;
+import com.sutalk.backend.domain.review.entity.SellerRatingSummary;
+import com.sutalk.backend.domain.review.service.SellerRatingSummaryService;
 import com.sutalk.backend.domain.user.entity.User;
 import com.sutalk.backend.domain.item.repository.ItemRepository;
 import com.sutalk.backend.domain.transaction.repository.ItemTransactionRepository;
 import com.sutalk.backend.domain.review.repository.ReviewRepository;
 import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.domain.user.service.UserCache;
 import com.sutalk.backend.global.config.JWT.JwtTokenProvider;
+import com.sutalk.backend.global.config.JWT.JwtVerifier;
+import com.sutalk.backend.global.config.StompChannelExecutors;
+import com.sutalk.backend.global.storage.UploadStorageService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.*;
 import java.util.*;
 
 @CrossOrigin(origins = "https://sutalkmarket.shop")
@@ -29,14 +32,18 @@ import java.util.*;
 public class UserController {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerifier jwtVerifier;
+    private final StompChannelExecutors stompChannelExecutors;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
 
     private final ItemTransactionRepository itemTransactionRepository;
+    private final UserCache userCache;
+    private final SellerRatingSummaryService sellerRatingSummaryService;
+    private final UploadStorageService uploadStorageService;
     @Autowired
     PasswordEncoder passwordEncoder;
-    private final Path PROFILE_ROOT = Paths.get(System.getProperty("user.dir"), "uploads", "profiles");
 
     // ✅ 판매자 프로필 정보 + 평균 별점 + 후기 개수
     @GetMapping("/{userid}")
@@ -44,25 +51,47 @@ public class UserController {
         User user = userRepository.findById(userid)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Double avg = reviewRepository.findAverageRatingByUser(user);
-        int count = reviewRepository.countByReviewee(user);
+        // ✅ 리뷰 전체 AVG/COUNT 대신 판매자 별점 집계 행 1건 조회
+        SellerRatingSummary rating = sellerRatingSummaryService.find(userid)
+                .orElseGet(() -> SellerRatingSummary.builder().userId(userid).build());
 
         UserProfileResponseDTO dto = UserProfileResponseDTO.builder()
                 .userid(user.getUserid())
                 .name(user.getName())
                 .email(user.getEmail())
-                .averageRating(avg != null ? avg : 0.0)
-                .reviewCount(count)
+                .averageRating(rating.getAverageRating())
+                .reviewCount(rating.getRatingCount())
+                .recentAverageRating(rating.getRecentAverageRating())
+                .ratingHistogram(rating.getHistogram())
                 .profileImage(user.getProfileImage())
                 .build();
 
         return ResponseEntity.ok(dto);
     }
 
+    // ✅ 유저 캐시 적중률/크기 (캐시 크기 조정용, 관리자 전용 - SecurityConfig)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getUserCacheStats() {
+        return ResponseEntity.ok(userCache.stats());
+    }
+
+    // ✅ JWT 검증 캐시 적중률/크기 (jwt.cache.* 조정용, 관리자 전용 - SecurityConfig)
+    @GetMapping("/token-cache/stats")
+    public ResponseEntity<Map<String, Object>> getTokenCacheStats() {
+        return ResponseEntity.ok(jwtVerifier.stats());
+    }
+
+    // ✅ STOMP 채널 실행기 큐 깊이 / 대기·실행 시간 (websocket.channel.* 조정용, 관리자 전용 - SecurityConfig)
+    @GetMapping("/ws/stats")
+    public ResponseEntity<Map<String, Object>> getChannelStats() {
+        return ResponseEntity.ok(stompChannelExecutors.stats());
+    }
+
     // ✅ 받은 후기 리스트 조회
     @GetMapping("/{userid}/reviews")
-    public List<Review> getReviewsForUser(@PathVariable String userid) {
-        return reviewRepository.findByReviewee_Userid(userid);
+    public List<ReviewResponseDTO> getReviewsForUser(@PathVariable String userid) {
+        // ✅ 엔티티 직렬화 대신 DTO 프로젝션 (연관 엔티티 지연 로딩/순환 직렬화 방지)
+        return reviewRepository.findResponsesBySellerId(userid);
     }
 
     // ✅ 회원가입
@@ -119,13 +148,13 @@ public class UserController {
 
         user.setName(newName);
         userRepository.save(user);
+        userCache.invalidate(userid);
 
         return ResponseEntity.ok("이름(닉네임)이 성공적으로 변경되었습니다.");
     }
 
-    // ✅ 프로필 이미지 업로드 API
+    // ✅ 프로필 이미지 업로드 API (파일 저장은 트랜잭션 없이, 경로 갱신만 짧게 저장)
     @PostMapping("/{userid}/profile-image")
-    @Transactional
     public ResponseEntity<?> uploadProfileImage(
             @PathVariable String userid,
             @RequestParam("file") MultipartFile file
@@ -134,20 +163,17 @@ public class UserController {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         try {
-            Files.createDirectories(PROFILE_ROOT);
-            String ext = StringUtils.getFilenameExtension(file.getOriginalFilename());
-            String filename = UUID.randomUUID() + "." + ext;
-            Path savePath = PROFILE_ROOT.resolve(filename);
-            Files.copy(file.getInputStream(), savePath, StandardCopyOption.REPLACE_EXISTING);
+            UploadStorageService.StoredFile stored = uploadStorageService.store(file);
 
-            user.setProfileImage("/uploads/profiles/" + filename);
+            user.setProfileImage(stored.url());
             userRepository.save(user);
+            userCache.invalidate(userid);
 
             return ResponseEntity.ok(Map.of(
                     "message", "프로필 이미지 업로드 완료",
-                    "imageUrl", "/uploads/profiles/" + filename
+                    "imageUrl", stored.url()
             ));
-        } catch (IOException e) {
+        } catch (RuntimeException e) {
             return ResponseEntity.status(500)
                     .body("이미지 업로드 실패: " + e.getMessage());
         }
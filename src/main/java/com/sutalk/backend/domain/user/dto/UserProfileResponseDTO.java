@@ -3,6 +3,8 @@ package com.sutalk.backend.domain.user.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class UserProfileResponseDTO {
@@ -11,5 +13,7 @@ public class UserProfileResponseDTO {
     private String email;
     private double averageRating;
     private int reviewCount;
+    private double recentAverageRating; // 최근 구간 평균
+    private List<Integer> ratingHistogram; // 1~5점 개수
     private String profileImage;
 }
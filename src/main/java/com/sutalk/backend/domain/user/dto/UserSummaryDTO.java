@@ -0,0 +1,16 @@
+package com.sutalk.backend.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 친구 목록 등에서 유저 정보를 간단히 전달하기 위한 DTO
+ * (UserCache 에 그대로 보관되므로 불변으로 유지)
+ */
+@Getter
+@AllArgsConstructor
+public class UserSummaryDTO {
+    private final String userid;
+    private final String name;
+    private final String profileImage;
+}
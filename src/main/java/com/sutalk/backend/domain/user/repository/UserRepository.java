@@ -1,5 +1,6 @@
 package com.sutalk.backend.domain.user.repository;
 
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
 import com.sutalk.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,6 +23,11 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     boolean existsByUserid(String newUserId);
 
+    // ✅ UserCache 적재용: 요약 필드만 조회
+    @Query("SELECT new com.sutalk.backend.domain.user.dto.UserSummaryDTO(u.userid, u.name, u.profileImage) " +
+            "FROM User u WHERE u.userid = :userId")
+    Optional<UserSummaryDTO> findSummaryById(@Param("userId") String userId);
+
 
 
 }
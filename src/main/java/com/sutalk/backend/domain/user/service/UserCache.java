@@ -0,0 +1,67 @@
+package com.sutalk.backend.domain.user.service;
+
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
+import com.sutalk.backend.domain.user.entity.User;
+import com.sutalk.backend.domain.user.repository.UserRepository;
+import com.sutalk.backend.global.cache.WTinyLfuCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 유저 조회 read-through 캐시
+ * - 값은 엔티티가 아닌 불변 UserSummaryDTO (세션/연관관계와 무관하게 공유 가능)
+ * - 존재 확인은 캐시로, FK 연결이 필요한 곳은 getReferenceById 프록시로 → 핫패스에서 user SELECT 제거
+ * - W-TinyLFU(user.cache.max-size) + TTL(user.cache.ttl-ms), 이름/프로필/ID 변경 시 무효화
+ */
+@Service
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final WTinyLfuCache<String, UserSummaryDTO> cache;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.max-size:10000}") int maxSize,
+                     @Value("${user.cache.ttl-ms:600000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.cache = new WTinyLfuCache<>(maxSize, ttlMs);
+    }
+
+    public Optional<UserSummaryDTO> getSummary(String userId) {
+        if (userId == null) return Optional.empty();
+        return cache.get(userId, id -> userRepository.findSummaryById(id).orElse(null));
+    }
+
+    public boolean exists(String userId) {
+        return getSummary(userId).isPresent();
+    }
+
+    /** ✅ 존재 확인 후 FK 연결용 프록시 반환 (필드 접근 전까지 SELECT 없음) */
+    public User getReference(String userId, Supplier<? extends RuntimeException> notFound) {
+        if (!exists(userId)) throw notFound.get();
+        return userRepository.getReferenceById(userId);
+    }
+
+    /** ✅ 즉시 + 커밋 후 두 번 무효화 (커밋 전에 다른 요청이 옛 값을 다시 적재하는 경우까지 제거) */
+    public void invalidate(String userId) {
+        if (userId == null) return;
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+}
@@ -1,7 +1,9 @@
 package com.sutalk.backend.domain.user.service;
 
 import com.sutalk.backend.domain.user.dto.UserProfileResponseDTO;
-import com.sutalk.backend.domain.review.entity.Review;
+import com.sutalk.backend.domain.review.dto.ReviewResponseDTO;
+import com.sutalk.backend.domain.review.entity.SellerRatingSummary;
+import com.sutalk.backend.domain.review.service.SellerRatingSummaryService;
 import com.sutalk.backend.domain.user.entity.User;
 import com.sutalk.backend.domain.item.repository.ItemRepository;
 import com.sutalk.backend.domain.transaction.repository.ItemTransactionRepository;
@@ -22,26 +24,31 @@ public class UserService {
     private final ReviewRepository reviewRepository;
     private final ItemRepository itemRepository;
     private final ItemTransactionRepository itemTransactionRepository;
+    private final UserCache userCache;
+    private final SellerRatingSummaryService sellerRatingSummaryService;
 
     // 사용자 프로필 정보 조회
     public UserProfileResponseDTO getUserProfile(String userId) {
         User user = findUserById(userId);
 
-        Double avgRating = reviewRepository.findAverageRatingByUser(user);
-        int reviewCount = reviewRepository.countByReviewee(user);
+        SellerRatingSummary rating = sellerRatingSummaryService.find(userId)
+                .orElseGet(() -> SellerRatingSummary.builder().userId(userId).build());
 
         return UserProfileResponseDTO.builder()
                 .userid(user.getUserid())
                 .name(user.getName())
                 .email(user.getEmail())
-                .averageRating(avgRating != null ? avgRating : 0.0)
-                .reviewCount(reviewCount)
+                .averageRating(rating.getAverageRating())
+                .reviewCount(rating.getRatingCount())
+                .recentAverageRating(rating.getRecentAverageRating())
+                .ratingHistogram(rating.getHistogram())
+                .profileImage(user.getProfileImage())
                 .build();
     }
 
     // 사용자가 받은 후기 목록 조회
-    public List<Review> getReviewsForUser(String userId) {
-        return reviewRepository.findByReviewee_Userid(userId);
+    public List<ReviewResponseDTO> getReviewsForUser(String userId) {
+        return reviewRepository.findResponsesBySellerId(userId);
     }
 
     // 회원가입
@@ -96,6 +103,8 @@ public class UserService {
 
         // 3. 기존 사용자 삭제
         userRepository.deleteById(oldUserId);
+        userCache.invalidate(oldUserId);
+        userCache.invalidate(newUserId);
     }
 
     // 중복 로직을 줄이기 위한 private 헬퍼 메서드
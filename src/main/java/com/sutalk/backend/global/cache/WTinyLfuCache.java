@@ -0,0 +1,292 @@
+package com.sutalk.backend.global.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ✅ 크기 제한 + TTL 을 갖는 W-TinyLFU 캐시 (외부 라이브러리 없이 구현)
+ * - window(LRU, 1%) 로 새 항목을 받고, 밀려난 항목은 main(SLRU: probation 20% / protected 80%) 입장 심사
+ * - 입장 심사: 빈도 스케치(Count-Min, 4bit)로 후보 vs main 희생자의 최근 빈도 비교 → 높은 쪽만 남김
+ *   (한 번 스치고 마는 조회가 자주 쓰이는 항목을 밀어내지 못함)
+ * - 스케치는 주기적으로 절반으로 줄여 오래된 인기도를 잊음
+ * - 단일 락으로 보호 (조회도 순서를 바꾸므로), 로더는 락 밖에서 실행
+ *   → 로딩 도중 같은 키가 무효화/갱신되면 (키 해시 스트라이프별 세대로 감지) 로더 결과는 적재하지 않음
+ */
+public class WTinyLfuCache<K, V> {
+
+    private enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    private static final class Node<V> {
+        V value;
+        long writtenAt;
+        Segment segment;
+
+        Node(V value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+            this.segment = Segment.WINDOW;
+        }
+    }
+
+    private final int maxWindow;
+    private final int maxProtected;
+    private final int maxMain;
+    private final long ttlMillis;
+
+    private final Map<K, Node<V>> data = new HashMap<>();
+    // accessOrder=true → get() 만으로 가장 최근 위치로 이동, iterator().next() 가 가장 오래된 항목
+    private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> protectedSeg = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    // 무효화 세대 (락 안에서만 접근): 로딩 시작 시점과 다르면 그 사이 무효화/갱신된 것 → 낡은 로더 결과 버림
+    private static final int GENERATION_STRIPES = 64;
+    private final long[] generations = new long[GENERATION_STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public WTinyLfuCache(int maximumSize, long ttlMillis) {
+        int max = Math.max(2, maximumSize);
+        this.maxWindow = Math.max(1, max / 100);
+        this.maxMain = max - maxWindow;
+        this.maxProtected = Math.max(1, (int) (maxMain * 0.8));
+        this.ttlMillis = ttlMillis;
+        this.sketch = new FrequencySketch(max);
+    }
+
+    /** ✅ 캐시 조회 (만료된 항목은 제거 후 미스 처리) */
+    public Optional<V> getIfPresent(K key) {
+        synchronized (this) {
+            sketch.increment(key);
+            Node<V> node = data.get(key);
+            if (node == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (isExpired(node)) {
+                removeNode(key, node);
+                expirations.increment();
+                misses.increment();
+                return Optional.empty();
+            }
+            onAccess(key, node);
+            hits.increment();
+            return Optional.ofNullable(node.value);
+        }
+    }
+
+    /**
+     * ✅ read-through 조회: 미스면 loader 로 읽어 적재 (loader 결과가 null 이면 적재하지 않음)
+     * 로딩 중 invalidate / put 이 끼어들었다면 결과는 반환만 하고 적재하지 않음
+     */
+    public Optional<V> get(K key, Function<K, V> loader) {
+        long generation;
+        synchronized (this) {
+            Optional<V> cached = getIfPresent(key);
+            if (cached.isPresent()) return cached;
+            generation = generations[stripeOf(key)];
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (this) {
+                if (generations[stripeOf(key)] == generation) {
+                    store(key, loaded);
+                }
+            }
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    public synchronized void put(K key, V value) {
+        generations[stripeOf(key)]++; // 진행 중인 로딩이 이 값을 덮어쓰지 않도록
+        store(key, value);
+    }
+
+    private void store(K key, V value) {
+        Node<V> node = data.get(key);
+        if (node != null) {
+            node.value = value;
+            node.writtenAt = System.currentTimeMillis();
+            onAccess(key, node);
+            return;
+        }
+        node = new Node<>(value, System.currentTimeMillis());
+        data.put(key, node);
+        window.put(key, node);
+        if (window.size() > maxWindow) {
+            evictFromWindow();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        generations[stripeOf(key)]++;
+        Node<V> node = data.get(key);
+        if (node != null) removeNode(key, node);
+    }
+
+    public synchronized void invalidateAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) generations[i]++;
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedSeg.clear();
+    }
+
+    public synchronized int size() {
+        return data.size();
+    }
+
+    /** ✅ 적중률 확인용 통계 (캐시 크기 조정 근거) */
+    public Map<String, Object> stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size());
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("hitRate", (h + m) == 0 ? 0.0 : (double) h / (h + m));
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        return stats;
+    }
+
+    private static int stripeOf(Object key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return ttlMillis > 0 && System.currentTimeMillis() - node.writtenAt > ttlMillis;
+    }
+
+    private void onAccess(K key, Node<V> node) {
+        switch (node.segment) {
+            case WINDOW -> window.get(key);
+            case PROTECTED -> protectedSeg.get(key);
+            case PROBATION -> {
+                // 두 번째 적중 → protected 로 승격, 넘치면 protected 의 가장 오래된 항목을 probation 으로 강등
+                probation.remove(key);
+                node.segment = Segment.PROTECTED;
+                protectedSeg.put(key, node);
+                if (protectedSeg.size() > maxProtected) {
+                    Map.Entry<K, Node<V>> demoted = pollEldest(protectedSeg);
+                    demoted.getValue().segment = Segment.PROBATION;
+                    probation.put(demoted.getKey(), demoted.getValue());
+                }
+            }
+        }
+    }
+
+    private void evictFromWindow() {
+        Map.Entry<K, Node<V>> candidate = pollEldest(window);
+        candidate.getValue().segment = Segment.PROBATION;
+
+        if (probation.size() + protectedSeg.size() < maxMain) {
+            probation.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+
+        LinkedHashMap<K, Node<V>> victimSeg = probation.isEmpty() ? protectedSeg : probation;
+        K victimKey = victimSeg.keySet().iterator().next();
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victimKey)) {
+            victimSeg.remove(victimKey);
+            data.remove(victimKey);
+            probation.put(candidate.getKey(), candidate.getValue());
+        } else {
+            data.remove(candidate.getKey());
+        }
+        evictions.increment();
+    }
+
+    private void removeNode(K key, Node<V> node) {
+        data.remove(key);
+        switch (node.segment) {
+            case WINDOW -> window.remove(key);
+            case PROBATION -> probation.remove(key);
+            case PROTECTED -> protectedSeg.remove(key);
+        }
+    }
+
+    private static <K, N> Map.Entry<K, N> pollEldest(LinkedHashMap<K, N> map) {
+        Iterator<Map.Entry<K, N>> it = map.entrySet().iterator();
+        Map.Entry<K, N> eldest = it.next();
+        Map.Entry<K, N> polled = Map.entry(eldest.getKey(), eldest.getValue());
+        it.remove();
+        return polled;
+    }
+
+    /**
+     * ✅ 4bit Count-Min 스케치 (행 4개)
+     * - 샘플 수(최대 크기 × 10)만큼 증가하면 모든 카운터를 절반으로 → 최근 빈도 위주로 유지
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.max(16, maximumSize * 2) - 1) << 1;
+            this.table = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = Math.max(10, maximumSize * 10);
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (table[i][index] < MAX_COUNT) {
+                    table[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int min = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                min = Math.min(min, table[i][indexOf(hash, i)]);
+            }
+            return min;
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = (byte) (row[j] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * 0x5bd1e995;
+            return (h ^ (h >>> 15)) & mask;
+        }
+
+        private static int spread(int h) {
+            h ^= h >>> 17;
+            h *= 0xed5ad4bb;
+            h ^= h >>> 11;
+            return h;
+        }
+    }
+}
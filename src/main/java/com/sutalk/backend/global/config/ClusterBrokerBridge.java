@@ -0,0 +1,77 @@
+package com.sutalk.backend.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * ✅ cluster 브로커 모드 (websocket.broker.mode=cluster)
+ * 로컬 simple broker 로 가는 /topic 메시지를 InProcessClusterBus 로 다른 노드에도 복제
+ * → 어느 노드에 구독했든 같은 메시지를 받음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "cluster")
+public class ClusterBrokerBridge implements ChannelInterceptor {
+
+    /** 다른 노드에서 넘어온 메시지 표시 (재전파 방지) */
+    static final String ORIGIN_HEADER = "clusterOrigin";
+
+    private final ApplicationContext applicationContext;
+
+    @Value("${websocket.broker.cluster-name:sutalk}")
+    private String clusterName;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile MessageChannel brokerChannel;
+
+    @PostConstruct
+    public void join() {
+        InProcessClusterBus.join(clusterName, nodeId, this::receive);
+        System.out.println("🔗 [ClusterBroker] 노드 참여: " + clusterName + "/" + nodeId);
+    }
+
+    @PreDestroy
+    public void leave() {
+        InProcessClusterBus.leave(clusterName, nodeId);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getHeaders().containsKey(ORIGIN_HEADER)) return message;
+
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (type == SimpMessageType.MESSAGE && destination != null && destination.startsWith("/topic")) {
+            InProcessClusterBus.publish(clusterName, nodeId, message);
+        }
+        return message;
+    }
+
+    private void receive(Message<?> message) {
+        Message<?> forwarded = MessageBuilder.fromMessage(message)
+                .setHeader(ORIGIN_HEADER, nodeId)
+                .build();
+        resolveBrokerChannel().send(forwarded);
+    }
+
+    // brokerChannel 은 WebSocketConfig 가 이 빈을 인터셉터로 등록한 뒤 생성되므로 지연 조회
+    private MessageChannel resolveBrokerChannel() {
+        if (brokerChannel == null) {
+            brokerChannel = applicationContext.getBean("brokerChannel", MessageChannel.class);
+        }
+        return brokerChannel;
+    }
+}
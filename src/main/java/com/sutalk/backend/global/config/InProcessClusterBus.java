@@ -0,0 +1,37 @@
+package com.sutalk.backend.global.config;
+
+import org.springframework.messaging.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * ✅ 같은 JVM 안의 여러 애플리케이션 컨텍스트(노드)를 잇는 메시지 버스
+ * 외부 브로커 없이 다중 노드 구성을 재현하기 위한 로컬/테스트용 대체물
+ */
+public final class InProcessClusterBus {
+
+    private static final Map<String, Map<String, Consumer<Message<?>>>> CLUSTERS = new ConcurrentHashMap<>();
+
+    private InProcessClusterBus() {
+    }
+
+    public static void join(String cluster, String nodeId, Consumer<Message<?>> receiver) {
+        CLUSTERS.computeIfAbsent(cluster, c -> new ConcurrentHashMap<>()).put(nodeId, receiver);
+    }
+
+    public static void leave(String cluster, String nodeId) {
+        Map<String, Consumer<Message<?>>> nodes = CLUSTERS.get(cluster);
+        if (nodes != null) nodes.remove(nodeId);
+    }
+
+    /** ✅ 보낸 노드를 제외한 같은 클러스터의 모든 노드에 전달 */
+    public static void publish(String cluster, String originNodeId, Message<?> message) {
+        Map<String, Consumer<Message<?>>> nodes = CLUSTERS.get(cluster);
+        if (nodes == null) return;
+        nodes.forEach((nodeId, receiver) -> {
+            if (!nodeId.equals(originNodeId)) receiver.accept(message);
+        });
+    }
+}
@@ -5,7 +5,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -13,12 +15,19 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerifier jwtVerifier;
+
+    /** ✅ 운영 통계 등 관리자 전용 API 를 쓸 수 있는 userId (쉼표 구분, 비어 있으면 관리자 없음) */
+    @Value("${admin.user-ids:}")
+    private Set<String> adminUserIds;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,21 +45,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // ✅ 기존 JWT 인증 로직 그대로 유지
+        // ✅ 한 번의 검증으로 userId 추출 (검증된 토큰은 다이제스트 캐시 적중, 토큰 원문은 로그에 남기지 않음)
         String token = resolveToken(request);
-        System.out.println("🔍 JWT 필터 동작: " + token);
-
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String userId = jwtTokenProvider.getUserId(token);
+        Optional<String> userId = jwtVerifier.verify(token);
 
+        if (userId.isPresent()) {
             // ✅ SecurityContext 명시적 생성 및 주입
             SecurityContext context = SecurityContextHolder.createEmptyContext();
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+                    new UsernamePasswordAuthenticationToken(userId.get(), null,
+                            adminUserIds.contains(userId.get())
+                                    ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                                    : Collections.emptyList());
             context.setAuthentication(authentication);
             SecurityContextHolder.setContext(context);
-
-            System.out.println("✅ JWT 인증 성공: " + userId);
         }
 
         filterChain.doFilter(request, response);
@@ -1,35 +1,24 @@
 package com.sutalk.backend.global.config.JWT;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import java.security.Key;
 import java.util.Date;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    // ✅ 서명 키/파서는 JwtVerifier 가 기동 시 한 번만 만들고 공유 (요청마다 파서 생성 X)
+    private final JwtVerifier jwtVerifier;
 
     public String getUserId(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return jwtVerifier.verify(token)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return jwtVerifier.verify(token).isPresent();
     }
 
     public String createToken(String userId) {
@@ -38,7 +27,7 @@ public class JwtTokenProvider {
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + 3600000)) // 1시간
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(jwtVerifier.getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 }
@@ -0,0 +1,96 @@
+package com.sutalk.backend.global.config.JWT;
+
+import com.sutalk.backend.global.cache.WTinyLfuCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ✅ JWT 검증 엔진 (요청마다 도는 인증 필터의 핫패스)
+ * - 서명 키/파서를 기동 시 한 번만 생성 (기존처럼 jwt.secret 을 Base64 로 해석 → 발급된 토큰과 호환)
+ * - 한 번의 파싱으로 서명 검증 + subject 추출 (validate → getUserId 이중 파싱 제거)
+ * - 검증된 토큰은 SHA-256 다이제스트 → (subject, 만료시각) 으로 캐시 (원문 토큰은 보관하지 않음)
+ *   캐시 적중이어도 만료시각이 지났으면 거부, 검증 실패는 캐시하지 않음
+ */
+@Component
+public class JwtVerifier {
+
+    /** 캐시 값: 만료시각(ms, 없으면 Long.MAX_VALUE) 까지만 유효 */
+    private record VerifiedToken(String subject, long expiresAtMillis) {
+    }
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final WTinyLfuCache<String, VerifiedToken> cache;
+
+    public JwtVerifier(@Value("${jwt.secret}") String secret,
+                       @Value("${jwt.cache.max-size:10000}") int maxSize,
+                       @Value("${jwt.cache.ttl-ms:300000}") long ttlMs) {
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.cache = new WTinyLfuCache<>(maxSize, ttlMs);
+    }
+
+    Key getSigningKey() {
+        return signingKey;
+    }
+
+    /** ✅ 유효한 토큰이면 subject(userId), 아니면 empty */
+    public Optional<String> verify(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        String digest = digestOf(token);
+        Optional<VerifiedToken> cached = cache.getIfPresent(digest);
+        if (cached.isPresent()) {
+            if (System.currentTimeMillis() < cached.get().expiresAtMillis()) {
+                return Optional.ofNullable(cached.get().subject());
+            }
+            cache.invalidate(digest);
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+            cache.put(digest, verified);
+            return Optional.ofNullable(verified.subject());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    private static String digestOf(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
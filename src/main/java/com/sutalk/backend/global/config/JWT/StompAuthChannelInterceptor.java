@@ -0,0 +1,59 @@
+package com.sutalk.backend.global.config.JWT;
+
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
+import com.sutalk.backend.domain.user.service.UserCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * ✅ STOMP CONNECT 인증
+ * - CONNECT 프레임의 Authorization 헤더(Bearer 토큰)를 JwtVerifier 로 한 번만 검증
+ * - UserCache 요약을 담은 StompUserPrincipal 을 세션 사용자로 등록 → 이후 프레임은 토큰/유저 조회 없이 Principal 사용
+ * - websocket.auth.required=true(기본) 면 토큰이 없거나 유효하지 않은 연결은 거부
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtVerifier jwtVerifier;
+    private final UserCache userCache;
+
+    @Value("${websocket.auth.required:true}")
+    private boolean authRequired;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        Optional<UserSummaryDTO> user = jwtVerifier.verify(resolveToken(accessor))
+                .flatMap(userCache::getSummary);
+
+        if (user.isPresent()) {
+            accessor.setUser(new StompUserPrincipal(user.get()));
+        } else if (authRequired) {
+            throw new MessageDeliveryException("인증되지 않은 WebSocket 연결입니다.");
+        }
+        return message;
+    }
+
+    private static String resolveToken(StompHeaderAccessor accessor) {
+        String bearer = accessor.getFirstNativeHeader("Authorization");
+        if (bearer != null && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+        return accessor.getFirstNativeHeader("token");
+    }
+}
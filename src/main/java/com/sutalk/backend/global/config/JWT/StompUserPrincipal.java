@@ -0,0 +1,29 @@
+package com.sutalk.backend.global.config.JWT;
+
+import com.sutalk.backend.domain.user.dto.UserSummaryDTO;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.security.Principal;
+
+/**
+ * ✅ STOMP 세션 사용자 (CONNECT 시 한 번 인증 후 세션 종료까지 재사용)
+ * getName() = userId, 이름/프로필은 연결 시점의 UserCache 요약
+ */
+public record StompUserPrincipal(UserSummaryDTO summary) implements Principal {
+
+    @Override
+    public String getName() {
+        return summary.getUserid();
+    }
+
+    /** 인증된 STOMP 세션이면 userId, 아니면 fallback (websocket.auth.required=false 인 구버전 클라이언트용) */
+    public static String userIdOf(Principal principal, String fallback) {
+        return principal instanceof StompUserPrincipal user ? user.getName() : fallback;
+    }
+
+    /** 인증된 STOMP 세션의 userId (payload 의 사용자 값으로 대신할 수 없는 요청용), 아니면 거부 */
+    public static String requireUserId(Principal principal) {
+        if (principal instanceof StompUserPrincipal user) return user.getName();
+        throw new AccessDeniedException("인증된 WebSocket 세션이 아닙니다.");
+    }
+}
@@ -0,0 +1,178 @@
+package com.sutalk.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ STOMP clientInbound / clientOutbound 채널 전용 실행기
+ * - pool(기본): 플랫폼 스레드 풀 (core / max / queue 설정) → 느린 DB 호출이 기본 소형 풀 전체를 막지 않음
+ *   ThreadPoolExecutor 는 큐가 가득 찬 뒤에야 core 를 넘어 스레드를 늘리므로 평소 동시 실행 수 = core
+ *   → core 기본값은 max(32, 코어 수 × 2) (Spring 기본 채널 실행기의 코어 × 2 이상), max 는 큐가 넘칠 때의 버스트 여유분(기본 core × 2)
+ * - virtual: 가상 스레드 (Java 21+) → JPA 블로킹 동안 캐리어 스레드를 놓아줌, 동시 실행 수는 virtual.max-concurrency 로 제한
+ * - 큐가 가득 차면 호출 스레드에서 실행 (버림 대신 해당 세션 읽기를 늦추는 역압)
+ * - 채널별 큐 깊이 / 대기 시간 / 실행 시간 / 역압 횟수 통계 (stats)
+ * 세션별 순서는 WebSocketConfig 의 preserveReceiveOrder / preservePublishOrder 가 보장
+ */
+@Component
+public class StompChannelExecutors {
+
+    @Value("${websocket.channel.mode:pool}")
+    private String mode;
+
+    @Value("${websocket.channel.virtual.max-concurrency:256}")
+    private int virtualMaxConcurrency;
+
+    /** 0 이하면 자동 (max(32, 코어 수 × 2)) */
+    @Value("${websocket.channel.inbound.core-pool-size:0}")
+    private int inboundCorePoolSize;
+
+    /** 0 이하면 core × 2 */
+    @Value("${websocket.channel.inbound.max-pool-size:0}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    /** 0 이하면 자동 (max(32, 코어 수 × 2)) */
+    @Value("${websocket.channel.outbound.core-pool-size:0}")
+    private int outboundCorePoolSize;
+
+    /** 0 이하면 core × 2 */
+    @Value("${websocket.channel.outbound.max-pool-size:0}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    private final ChannelStats inboundStats = new ChannelStats();
+    private final ChannelStats outboundStats = new ChannelStats();
+
+    private ThreadPoolTaskExecutor inbound;
+    private ThreadPoolTaskExecutor outbound;
+
+    /** 초기화/종료는 채널 실행기 빈으로 등록되면서 컨테이너가 담당 */
+    public synchronized ThreadPoolTaskExecutor inbound() {
+        if (inbound == null) {
+            inbound = create("ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity, inboundStats);
+        }
+        return inbound;
+    }
+
+    public synchronized ThreadPoolTaskExecutor outbound() {
+        if (outbound == null) {
+            outbound = create("ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity, outboundStats);
+        }
+        return outbound;
+    }
+
+    private ThreadPoolTaskExecutor create(String prefix, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                          ChannelStats stats) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        switch (mode) {
+            case "pool" -> {
+                int core = corePoolSize > 0 ? corePoolSize : defaultCorePoolSize();
+                int max = maxPoolSize > 0 ? maxPoolSize : core * 2;
+                executor.setCorePoolSize(core);
+                executor.setMaxPoolSize(Math.max(core, max));
+            }
+            case "virtual" -> {
+                // 가상 스레드는 싸므로 core = max, 유휴 시 회수
+                executor.setThreadFactory(virtualThreadFactory(prefix));
+                executor.setCorePoolSize(virtualMaxConcurrency);
+                executor.setMaxPoolSize(virtualMaxConcurrency);
+                executor.setAllowCoreThreadTimeOut(true);
+            }
+            default -> throw new IllegalStateException("지원하지 않는 websocket.channel.mode: " + mode);
+        }
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(60);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            stats.callerRuns.increment();
+            new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(task, pool);
+        });
+        executor.setTaskDecorator(task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    stats.record(startedAt - queuedAt, System.nanoTime() - startedAt);
+                }
+            };
+        });
+        return executor;
+    }
+
+    static int defaultCorePoolSize() {
+        return Math.max(32, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    private static ThreadFactory virtualThreadFactory(String prefix) {
+        try {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalStateException("websocket.channel.mode=virtual 은 Java 21 이상에서만 사용할 수 있습니다.", e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", mode);
+        stats.put("inbound", inboundStats.snapshot(inbound));
+        stats.put("outbound", outboundStats.snapshot(outbound));
+        return stats;
+    }
+
+    /** 누적 통계 + 직전 조회 이후 최대 대기 시간 */
+    private static class ChannelStats {
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder callerRuns = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder runNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void record(long waited, long ran) {
+            completed.increment();
+            waitNanos.add(waited);
+            runNanos.add(ran);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+
+        Map<String, Object> snapshot(ThreadPoolTaskExecutor executor) {
+            long count = completed.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            ThreadPoolExecutor pool = poolOf(executor);
+            if (pool != null) {
+                stats.put("queueDepth", pool.getQueue().size());
+                stats.put("activeThreads", pool.getActiveCount());
+                stats.put("poolSize", pool.getPoolSize());
+            }
+            stats.put("completed", count);
+            stats.put("callerRuns", callerRuns.sum());
+            stats.put("avgWaitMs", count == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / count);
+            stats.put("avgRunMs", count == 0 ? 0.0 : runNanos.sum() / 1_000_000.0 / count);
+            stats.put("maxWaitMsSinceLastRead", maxWaitNanos.getAndSet(0) / 1_000_000.0);
+            return stats;
+        }
+
+        private static ThreadPoolExecutor poolOf(ThreadPoolTaskExecutor executor) {
+            if (executor == null) return null;
+            try {
+                return executor.getThreadPoolExecutor();
+            } catch (IllegalStateException e) {
+                return null; // 아직 초기화 전
+            }
+        }
+    }
+}
@@ -1,13 +1,43 @@
 package com.sutalk.backend.global.config;
 
+import com.sutalk.backend.global.config.JWT.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ObjectProvider<ClusterBrokerBridge> clusterBrokerBridge;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final StompChannelExecutors stompChannelExecutors;
+
+    /** ✅ simple(단일 노드) / relay(외부 STOMP 브로커) / cluster(JVM 내 다중 노드) */
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    /** ✅ 세션별 수신/발행 순서 보장 (전용 실행기에서 여러 스레드가 처리해도 같은 세션 프레임은 차례대로) */
+    @Value("${websocket.channel.preserve-order:true}")
+    private boolean preserveOrder;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // ✅ SockJS 대신 native websocket 사용
@@ -17,8 +47,39 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        switch (brokerMode) {
+            case "relay" -> registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            case "cluster" -> {
+                registry.enableSimpleBroker("/topic", "/queue");
+                registry.configureBrokerChannel().interceptors(clusterBrokerBridge.getObject());
+            }
+            case "simple" -> registry.enableSimpleBroker("/topic", "/queue");
+            default -> throw new IllegalStateException("지원하지 않는 websocket.broker.mode: " + brokerMode);
+        }
         registry.setApplicationDestinationPrefixes("/app");
+        // ✅ /user/queue/** : 요청한 세션에만 보내는 응답 (재연결 동기화 등)
+        registry.setUserDestinationPrefix("/user");
+        registry.setPreserveReceiveOrder(preserveOrder);
+        registry.setPreservePublishOrder(preserveOrder);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // ✅ CONNECT 때 한 번 JWT 인증 → 세션 Principal 로 이후 프레임 처리
+        registration.interceptors(stompAuthChannelInterceptor);
+        // ✅ 전용 실행기 (JPA 블로킹 작업이 기본 소형 풀을 막지 않도록, pool / virtual 모드)
+        registration.taskExecutor(stompChannelExecutors.inbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(stompChannelExecutors.outbound());
     }
 
     @Override
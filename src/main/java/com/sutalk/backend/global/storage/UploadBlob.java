@@ -0,0 +1,45 @@
+package com.sutalk.backend.global.storage;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 업로드 블롭 (uploads/{sha256}.{확장자} 파일 1개 = 행 1개)
+ * - 내용 해시로 중복 업로드를 같은 파일로 합침
+ * - ref_count: 상품 이미지 / 커뮤니티 이미지 / 프로필 이미지 중 이 경로를 가리키는 행 수 (UploadBlobCollector 가 재계산)
+ * - last_uploaded_at: 마지막으로 업로드(또는 중복 재사용)된 시각 → 막 올라와 아직 연결 전인 블롭을 회수하지 않는 기준
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "sutalk_upload_blob", indexes = {
+        @Index(name = "idx_upload_blob_sha256", columnList = "sha256"),
+        @Index(name = "idx_upload_blob_ref_uploaded", columnList = "ref_count, last_uploaded_at")
+})
+public class UploadBlob {
+
+    // 서빙 경로 ("/uploads/..."), 참조 테이블들의 경로 컬럼과 그대로 비교
+    @Id
+    @Column(name = "url", length = 255)
+    private String url;
+
+    @Column(name = "sha256", length = 64, nullable = false)
+    private String sha256;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_uploaded_at", nullable = false)
+    private LocalDateTime lastUploadedAt;
+}
@@ -0,0 +1,145 @@
+package com.sutalk.backend.global.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * ✅ 업로드 블롭 회수 작업 (매시)
+ * 1) 블롭 테이블에 없는 기존 업로드 파일(UUID 파일명) 등록
+ * 2) 참조 수 재계산: 상품 이미지 / 커뮤니티 이미지 / 프로필 이미지 경로를 UPDATE … JOIN 한 번으로 집계
+ *    (이미지는 orphanRemoval·cascade 로도 사라지므로 연결 지점마다 증감하지 않고 원본 테이블 기준으로 셈,
+ *     예전에 절대 URL 로 저장된 경로도 "/uploads/" 이후만 비교)
+ * 3) 참조 0 + 유예 시간 이상 재업로드되지 않은 블롭의 파일/축소본/행 삭제
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadBlobCollector {
+
+    // 서비스가 만든 파일만 관리 (sha256 / UUID 파일명) → default-profile.png 같은 고정 파일은 건드리지 않음
+    private static final Pattern MANAGED_NAME = Pattern.compile(
+            "^([0-9a-f]{64}|[0-9a-f]{32}|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})(\\.[A-Za-z0-9]{1,10})?$");
+    private static final List<String> SCANNED_DIRS = List.of("", "profiles");
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private static final String REGISTER_SQL = """
+            INSERT IGNORE INTO sutalk_upload_blob (url, sha256, size, ref_count, created_at, last_uploaded_at)
+            VALUES (?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String RECOUNT_SQL = """
+            UPDATE sutalk_upload_blob b
+            LEFT JOIN (
+                SELECT SUBSTRING(path, LOCATE('/uploads/', path)) AS url, COUNT(*) AS cnt FROM (
+                    SELECT photo_path AS path FROM sutalk_item_images
+                    UNION ALL SELECT photo_path FROM sutalk_community_image
+                    UNION ALL SELECT profile_image FROM sutalk_user
+                ) refs
+                WHERE LOCATE('/uploads/', path) > 0
+                GROUP BY url
+            ) r ON r.url = b.url
+            SET b.ref_count = COALESCE(r.cnt, 0)
+            WHERE b.ref_count <> COALESCE(r.cnt, 0)
+            """;
+
+    private static final String FIND_UNREFERENCED_SQL = """
+            SELECT url FROM sutalk_upload_blob
+            WHERE ref_count = 0 AND last_uploaded_at < ?
+            LIMIT ?
+            """;
+
+    private final UploadStorageService uploadStorageService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${upload.gc.grace-minutes:60}")
+    private long graceMinutes;
+
+    @Scheduled(cron = "${upload.gc.cron:0 20 * * * *}")
+    public synchronized void collect() {
+        long begin = System.currentTimeMillis();
+        try {
+            int registered = registerUntracked();
+            int recounted = jdbcTemplate.update(RECOUNT_SQL);
+            int deleted = sweep();
+            if (registered + recounted + deleted > 0) {
+                System.out.println("🧹 [UploadGC] 등록 " + registered + "건, 참조 수 갱신 " + recounted
+                        + "건, 삭제 " + deleted + "건 (" + (System.currentTimeMillis() - begin) + "ms)");
+            }
+        } catch (Exception e) {
+            System.err.println("❌ [UploadGC] 회수 실패: " + e.getMessage());
+        }
+    }
+
+    /** 참조 0 블롭을 배치로 삭제 (삭제 직전 조건을 다시 확인하므로 그 사이 재사용된 블롭은 남음) */
+    private int sweep() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusMinutes(graceMinutes));
+        int deleted = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(FIND_UNREFERENCED_SQL, cutoff, SWEEP_BATCH_SIZE);
+            if (rows.isEmpty()) break;
+            for (Map<String, Object> row : rows) {
+                if (uploadStorageService.deleteIfUnreferenced((String) row.get("url"), cutoff)) {
+                    deleted++;
+                }
+            }
+            if (rows.size() < SWEEP_BATCH_SIZE) break;
+        }
+        return deleted;
+    }
+
+    /** 블롭 테이블 도입 전 업로드된 파일 등록 (마지막 업로드 시각 = 파일 수정 시각) */
+    private int registerUntracked() throws IOException {
+        Set<String> known = new HashSet<>(jdbcTemplate.queryForList("SELECT url FROM sutalk_upload_blob", String.class));
+        Path root = uploadStorageService.getUploadRoot();
+        int registered = 0;
+
+        for (String dir : SCANNED_DIRS) {
+            Path base = dir.isEmpty() ? root : root.resolve(dir);
+            if (!Files.isDirectory(base)) continue;
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(base)) {
+                files = stream.filter(Files::isRegularFile)
+                        .filter(p -> MANAGED_NAME.matcher(p.getFileName().toString()).matches())
+                        .toList();
+            }
+            for (Path file : files) {
+                String url = "/uploads/" + (dir.isEmpty() ? "" : dir + "/") + file.getFileName();
+                if (known.contains(url)) continue;
+
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                Timestamp modified = new Timestamp(attrs.lastModifiedTime().toMillis());
+                registered += jdbcTemplate.update(REGISTER_SQL, url, hashOf(file), attrs.size(), modified, modified);
+            }
+        }
+        return registered;
+    }
+
+    private static String hashOf(Path file) throws IOException {
+        MessageDigest digest = UploadStorageService.sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,175 @@
+package com.sutalk.backend.global.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ✅ /uploads/** 전용 서빙 (기본 정적 리소스 핸들러 대체)
+ * - 내용 주소 파일(sha256 파일명 + 그 축소본): ETag = 해시, Cache-Control: immutable 1년 → 브라우저/CDN 이 다시 묻지 않음
+ * - 예전 UUID 파일: 크기+수정시각 ETag, 짧은 max-age 후 재검증
+ * - If-None-Match / If-Modified-Since → 304, Range(단일 구간) → 206, If-Range 지원
+ * - 본문은 Tomcat sendfile 로 커널이 직접 전송 (지원하지 않으면 FileChannel.transferTo 로 대체)
+ */
+@Controller
+@RequiredArgsConstructor
+public class UploadResourceController {
+
+    private static final Pattern CONTENT_ADDRESSED =
+            Pattern.compile("^(thumb_|medium_)?([0-9a-f]{64})(\\.[A-Za-z0-9]{1,10})?$");
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final UploadStorageService uploadStorageService;
+
+    @Value("${upload.serving.legacy-max-age-seconds:86400}")
+    private long legacyMaxAgeSeconds;
+
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(PATH_HELPER.getPathWithinApplication(request));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String filename = file.getFileName().toString();
+        Matcher addressed = CONTENT_ADDRESSED.matcher(filename);
+        boolean immutable = addressed.matches();
+
+        String etag = immutable
+                ? "\"" + (addressed.group(1) != null ? addressed.group(1) : "") + addressed.group(2) + "\""
+                : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                immutable ? IMMUTABLE_CACHE : "public, max-age=" + legacyMaxAgeSeconds);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        // ✅ 조건부 요청: ETag/Last-Modified 설정 + 일치하면 304 (본문 없음)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = null;
+            }
+            if (ranges == null || (ranges.size() == 1 && !satisfiable(ranges.get(0), length))) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            // 여러 구간 요청은 이미지 트래픽에서 쓰이지 않으므로 전체 본문(200)으로 응답
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+            out.flush();
+        }
+    }
+
+    /** "/uploads/..." → 실제 파일 (uploads 밖, 숨김 경로(.tmp 등), 디렉터리, 없는 파일이면 null) */
+    private Path resolve(String requestPath) {
+        Path path = uploadStorageService.pathOf(requestPath);
+        if (path == null || !Files.isRegularFile(path)) return null;
+        Path relative = uploadStorageService.getUploadRoot().relativize(path);
+        for (Path segment : relative) {
+            if (segment.toString().startsWith(".")) return null;
+        }
+        return path;
+    }
+
+    /** If-Range 가 현재 ETag/수정시각과 다르면 Range 를 무시하고 전체 응답 */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since != -1 && lastModified / 1000 <= since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean satisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) < length;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
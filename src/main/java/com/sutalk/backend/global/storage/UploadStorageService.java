@@ -0,0 +1,253 @@
+package com.sutalk.backend.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 업로드 파일 저장 공용 서비스 (상품 이미지 / 커뮤니티 이미지 / 프로필 이미지)
+ * - 컨트롤러에서 DB 트랜잭션 시작 전에 호출 → 느린 디스크가 DB 커넥션을 붙잡지 않음
+ * - 임시 파일로 FileChannel.transferFrom 스트리밍 (요청 본문 전체를 힙에 올리지 않음) + 동시에 SHA-256 계산
+ * - 내용 주소 저장: uploads/{sha256}.{확장자}, 같은 내용이 이미 있으면 기존 블롭 재사용 (sutalk_upload_blob)
+ * - 완성된 파일만 원자적 이동으로 노출 → 반쯤 쓰인 파일이 서빙되지 않음
+ * - 동시 저장 수를 세마포어로 제한, 파일 크기 상한 검사
+ * - 참조가 사라진 블롭 회수는 UploadBlobCollector 담당
+ *   (재사용과 삭제 모두 블롭 행을 SELECT ... FOR UPDATE 로 잠근 트랜잭션 안에서 → 인스턴스가 여러 개여도 엇갈리지 않음)
+ */
+@Service
+public class UploadStorageService {
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    // 같은 새 내용을 동시에 올리면 빈 구간 잠금끼리 교착될 수 있음 → 진 쪽은 다시 시도해 먼저 저장된 블롭을 재사용
+    private static final int MAX_LOCK_ATTEMPTS = 3;
+
+    private static final String LOCK_BY_HASH_SQL =
+            "SELECT url FROM sutalk_upload_blob WHERE sha256 = ? FOR UPDATE";
+    private static final String TOUCH_SQL =
+            "UPDATE sutalk_upload_blob SET last_uploaded_at = ? WHERE url = ?";
+    private static final String UPSERT_SQL = """
+            INSERT INTO sutalk_upload_blob (url, sha256, size, ref_count, created_at, last_uploaded_at)
+            VALUES (?, ?, ?, 0, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                sha256 = VALUES(sha256),
+                size = VALUES(size),
+                last_uploaded_at = VALUES(last_uploaded_at)
+            """;
+    private static final String LOCK_UNREFERENCED_SQL =
+            "SELECT url FROM sutalk_upload_blob WHERE url = ? AND ref_count = 0 AND last_uploaded_at < ? FOR UPDATE";
+    private static final String DELETE_SQL =
+            "DELETE FROM sutalk_upload_blob WHERE url = ?";
+
+    /** 저장 결과: url 은 "/uploads/..." 형태 (기존 photoPath / profileImage 규칙 그대로) */
+    public record StoredFile(String url, String sha256, long size, boolean deduplicated) {
+    }
+
+    private final Path UPLOAD_ROOT = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath();
+    private final Path TMP_ROOT = UPLOAD_ROOT.resolve(".tmp");
+    private final Path THUMBNAIL_ROOT = UPLOAD_ROOT.resolve("thumbnails");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final long maxFileBytes;
+
+    public UploadStorageService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${upload.storage.max-concurrent:4}") int maxConcurrent,
+                                @Value("${upload.storage.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+                                @Value("${upload.storage.max-file-bytes:20971520}") long maxFileBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    /** ✅ 여러 파일 저장 (중간에 실패해도 이미 저장된 블롭은 참조가 없으므로 회수 작업이 정리) */
+    public List<StoredFile> storeAll(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) return List.of();
+
+        List<StoredFile> stored = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) continue;
+            stored.add(store(file));
+        }
+        return stored;
+    }
+
+    public StoredFile store(MultipartFile file) {
+        if (file.getSize() > maxFileBytes) {
+            throw new IllegalArgumentException("파일 크기는 최대 " + (maxFileBytes / (1024 * 1024)) + "MB 까지 업로드할 수 있습니다.");
+        }
+
+        acquire();
+        Path tmp = null;
+        try {
+            Files.createDirectories(TMP_ROOT);
+            tmp = TMP_ROOT.resolve(UUID.randomUUID() + ".part");
+
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                size = transfer(source, target);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String ext = extensionOf(file.getOriginalFilename());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            StoredFile stored = storeLocked(tmp, hash, ext, size, now);
+            if (!stored.deduplicated()) tmp = null;
+            return stored;
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("이미지 저장 실패: " + e.getMessage(), e);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * ✅ 같은 해시의 블롭 행을 잠근 채 재사용 또는 새 파일 공개 (한 트랜잭션)
+     * 회수 작업이 먼저 행을 잠갔다면 파일 삭제가 끝나고 커밋될 때까지 기다린 뒤 새로 저장
+     */
+    private StoredFile storeLocked(Path tmp, String hash, String ext, long size, Timestamp now) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    // ✅ 같은 내용의 블롭이 이미 있으면 재사용 (회수 대상이 되지 않도록 업로드 시각 갱신, 갱신된 행만)
+                    for (String url : jdbcTemplate.queryForList(LOCK_BY_HASH_SQL, String.class, hash)) {
+                        Path existing = pathOf(url);
+                        if (existing != null && Files.exists(existing)
+                                && jdbcTemplate.update(TOUCH_SQL, now, url) == 1) {
+                            return new StoredFile(url, hash, size, true);
+                        }
+                    }
+
+                    String filename = ext == null ? hash : hash + "." + ext;
+                    try {
+                        Files.move(tmp, UPLOAD_ROOT.resolve(filename),
+                                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+
+                    String url = "/uploads/" + filename;
+                    jdbcTemplate.update(UPSERT_SQL, url, hash, size, now, now);
+                    return new StoredFile(url, hash, size, false);
+                });
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_LOCK_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    /**
+     * ✅ 참조 없는 블롭 삭제 (UploadBlobCollector 전용)
+     * 삭제 조건을 만족하는 행을 잠근 뒤에만 파일/축소본 삭제 → 그 사이 재사용된 블롭은 남고,
+     * 같은 해시를 올리는 쪽은 이 트랜잭션이 끝날 때까지 대기
+     */
+    boolean deleteIfUnreferenced(String url, Timestamp uploadedBefore) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_UNREFERENCED_SQL, String.class, url, uploadedBefore).isEmpty()) {
+                return false;
+            }
+            Path path = pathOf(url);
+            if (path != null) {
+                String filename = path.getFileName().toString();
+                try {
+                    Files.deleteIfExists(path);
+                    Files.deleteIfExists(THUMBNAIL_ROOT.resolve("thumb_" + filename));
+                    Files.deleteIfExists(THUMBNAIL_ROOT.resolve("medium_" + filename));
+                } catch (IOException e) {
+                    System.err.println("⚠️ [UploadStorage] 파일 삭제 실패: " + url + " (" + e.getMessage() + ")");
+                }
+            }
+            jdbcTemplate.update(DELETE_SQL, url);
+            return true;
+        }));
+    }
+
+    Path getUploadRoot() {
+        return UPLOAD_ROOT;
+    }
+
+    /** "/uploads/..." → 실제 경로 (uploads 밖을 가리키면 null) */
+    Path pathOf(String url) {
+        if (url == null || !url.startsWith("/uploads/")) return null;
+        Path path = UPLOAD_ROOT.resolve(url.substring("/uploads/".length())).normalize();
+        return path.startsWith(UPLOAD_ROOT) ? path : null;
+    }
+    /** 스트림 끝까지 청크 단위로 전송, 크기 상한을 넘으면 중단 */
+    private long transfer(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        while (true) {
+            long transferred = target.transferFrom(source, position, TRANSFER_CHUNK);
+            if (transferred <= 0) break;
+            position += transferred;
+            if (position > maxFileBytes) {
+                throw new IllegalArgumentException("파일 크기는 최대 " + (maxFileBytes / (1024 * 1024)) + "MB 까지 업로드할 수 있습니다.");
+            }
+        }
+        target.force(false);
+        return position;
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드가 중단되었습니다.", e);
+        }
+    }
+
+    /** 확장자는 영문/숫자만 허용 (경로 조작 방지), 없으면 null */
+    private static String extensionOf(String originalFilename) {
+        String ext = StringUtils.getFilenameExtension(originalFilename);
+        if (ext == null || ext.isBlank() || !ext.matches("[A-Za-z0-9]{1,10}")) return null;
+        return ext.toLowerCase();
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
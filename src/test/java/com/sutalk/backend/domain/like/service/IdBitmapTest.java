@@ -0,0 +1,118 @@
+package com.sutalk.backend.domain.like.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBitmapTest {
+
+    /** 한 구간(상위 키 3)에 짝수 id 를 count 개 → 홀수 id 는 전부 빠져 있음 */
+    private static List<Long> evenIdsInOneChunk(int count) {
+        long base = 3L << 16;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) ids.add(base + i * 2L);
+        return ids;
+    }
+
+    private static Object containerOf(IdBitmap bitmap, long high) {
+        Map<?, ?> containers = (Map<?, ?>) ReflectionTestUtils.getField(bitmap, "containers");
+        return containers.get(high);
+    }
+
+    @Test
+    void 구간당_4096개까지는_배열_컨테이너를_쓴다() {
+        List<Long> ids = evenIdsInOneChunk(4096);
+        IdBitmap bitmap = IdBitmap.of(ids);
+
+        assertThat(containerOf(bitmap, 3L)).isInstanceOf(char[].class);
+        assertThat(bitmap.cardinality()).isEqualTo(4096);
+        assertThat(ids).allMatch(bitmap::contains);
+        assertThat(bitmap.contains(ids.get(0) + 1)).isFalse();
+        assertThat(bitmap.contains(ids.get(ids.size() - 1) + 2)).isFalse();
+    }
+
+    @Test
+    void 구간당_4097개부터는_비트맵_컨테이너를_쓴다() {
+        List<Long> ids = evenIdsInOneChunk(4097);
+        IdBitmap bitmap = IdBitmap.of(ids);
+
+        assertThat(containerOf(bitmap, 3L)).isInstanceOf(long[].class);
+        assertThat(bitmap.cardinality()).isEqualTo(4097);
+        assertThat(ids).allMatch(bitmap::contains);
+        assertThat(bitmap.contains(ids.get(0) + 1)).isFalse();
+        assertThat(bitmap.contains(ids.get(ids.size() - 1) + 1)).isFalse();
+        assertThat(bitmap.contains(ids.get(ids.size() - 1) + 2)).isFalse();
+    }
+
+    @Test
+    void 비트맵_컨테이너의_구간_끝_값도_찾는다() {
+        long base = 5L << 16;
+        List<Long> ids = new ArrayList<>();
+        for (long low = 0xFFFF; low > 0xFFFF - 5000; low--) ids.add(base + low);
+        IdBitmap bitmap = IdBitmap.of(ids);
+
+        assertThat(containerOf(bitmap, 5L)).isInstanceOf(long[].class);
+        assertThat(bitmap.contains(base + 0xFFFF)).isTrue();
+        assertThat(bitmap.contains(base + 0xFFFF + 1)).isFalse(); // 다음 구간의 0
+        assertThat(bitmap.contains(base)).isFalse();
+    }
+
+    @Test
+    void 여러_상위_키에_걸친_id를_구분한다() {
+        long[] values = {1L, 65_535L, 65_536L, 65_537L, 1L << 32, (1L << 32) + 65_535L, Long.MAX_VALUE};
+        IdBitmap bitmap = IdBitmap.of(Arrays.stream(values).boxed().toList());
+
+        assertThat(bitmap.cardinality()).isEqualTo(values.length);
+        for (long value : values) assertThat(bitmap.contains(value)).isTrue();
+        // 하위 16비트는 같고 상위 키만 다른 값
+        assertThat(bitmap.contains((2L << 16) + 1)).isFalse();
+        assertThat(bitmap.contains((1L << 32) + 1)).isFalse();
+        assertThat(bitmap.contains(Long.MAX_VALUE - 1)).isFalse();
+    }
+
+    @Test
+    void id_0을_담는다() {
+        IdBitmap bitmap = IdBitmap.of(List.of(0L));
+
+        assertThat(bitmap.contains(0L)).isTrue();
+        assertThat(bitmap.contains(1L)).isFalse();
+        assertThat(bitmap.contains(1L << 16)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void 음수와_null_id는_무시한다() {
+        IdBitmap bitmap = IdBitmap.of(Arrays.asList(-1L, null, 7L, Long.MIN_VALUE));
+
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+        assertThat(bitmap.contains(7L)).isTrue();
+        assertThat(bitmap.contains(-1L)).isFalse();
+        assertThat(bitmap.contains(Long.MIN_VALUE)).isFalse();
+        assertThat(bitmap.contains(null)).isFalse();
+        // -1 의 하위 16비트(0xFFFF)가 양수 구간에 섞이지 않음
+        assertThat(bitmap.contains(0xFFFFL)).isFalse();
+    }
+
+    @Test
+    void 중복_id는_한_번만_센다() {
+        IdBitmap bitmap = IdBitmap.of(List.of(10L, 10L, 20L, 10L, 20L));
+
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+        assertThat(bitmap.contains(10L)).isTrue();
+        assertThat(bitmap.contains(20L)).isTrue();
+    }
+
+    @Test
+    void 비어_있거나_null이면_빈_집합이다() {
+        assertThat(IdBitmap.of(null)).isSameAs(IdBitmap.EMPTY);
+        assertThat(IdBitmap.of(List.of())).isSameAs(IdBitmap.EMPTY);
+        assertThat(IdBitmap.EMPTY.contains(0L)).isFalse();
+        assertThat(IdBitmap.of(Arrays.asList(null, -5L)).cardinality()).isZero();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sutalk.backend.domain.search.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * ✅ 자동완성 조회 벤치마크 (./gradlew jmh -Pjmh.include=AutocompleteBenchmark)
+ * 요청 목표: 상품 제목 10만 건에서 조회 p99 < 1ms → SampleTime 모드의 p0.99 백분위로 확인
+ * - complete     : 완성형 접두어 (한 글자 / 단어 / 단어 + 공백)
+ * - completeJamo : 초성 입력 ("ㅇㅇㅍ")
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AutocompleteBenchmark {
+
+    private static final String[] WORDS = {"아이폰", "갤럭시", "맥북", "책상", "의자", "자전거", "전공책", "모니터", "키보드", "마우스",
+            "노트북", "패딩", "운동화", "가방", "냉장고", "선풍기", "ipad", "airpods", "switch", "lamp"};
+
+    @Param("100000")
+    private int titles;
+
+    private SearchAutocompleteService service;
+    private List<String> textPrefixes;
+    private List<String> jamoPrefixes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // complete / adjust 는 저장소를 쓰지 않음 (rebuild 에서만 사용)
+        service = new SearchAutocompleteService(null, null);
+        Random random = new Random(42);
+        for (int i = 0; i < titles; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + random.nextInt(1000);
+            service.adjust(title, 1);
+        }
+        textPrefixes = Arrays.stream(WORDS)
+                .flatMap(w -> Stream.of(w.substring(0, 1), w, w + " "))
+                .toList();
+        jamoPrefixes = Arrays.stream(WORDS)
+                .map(SearchAutocompleteService::toChoseong)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> complete() {
+        return service.complete(textPrefixes.get(next(textPrefixes.size())), 10);
+    }
+
+    @Benchmark
+    public List<String> completeJamo() {
+        return service.complete(jamoPrefixes.get(next(jamoPrefixes.size())), 10);
+    }
+
+    private int next(int size) {
+        cursor = (cursor + 1) % size;
+        return cursor;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sutalk.backend.domain.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    @Test
+    void 접두어별_가중치_상위_후보를_반환한다() {
+        AutocompleteTrie trie = new AutocompleteTrie(3);
+        trie.add("아이폰", "아이폰", 5, true);
+        trie.add("아이패드", "아이패드", 7, true);
+        trie.add("아이폰 케이스", "아이폰 케이스", 2, true);
+        trie.add("아이맥", "아이맥", 1, true);
+        trie.add("갤럭시", "갤럭시", 10, true);
+
+        assertThat(trie.complete("아이", 10)).containsExactly("아이패드", "아이폰", "아이폰 케이스");
+        assertThat(trie.complete("아이폰", 10)).containsExactly("아이폰", "아이폰 케이스");
+        assertThat(trie.complete("아이", 1)).containsExactly("아이패드");
+        assertThat(trie.complete("없음", 10)).isEmpty();
+    }
+
+    @Test
+    void 가중치_변경이_상위_캐시에_반영된다() {
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("사과", "사과", 1, true);
+        trie.add("사전", "사전", 2, true);
+        assertThat(trie.complete("사", 10)).containsExactly("사전", "사과");
+
+        trie.add("사과", "사과", 5, true);
+        assertThat(trie.complete("사", 10)).containsExactly("사과", "사전");
+
+        // 0 이하가 되면 후보에서 제거
+        trie.add("사과", "사과", -6, true);
+        assertThat(trie.complete("사", 10)).containsExactly("사전");
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 동점이면_짧은_문자열_다음_사전순() {
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("책상 의자", "책상 의자", 1, false);
+        trie.add("책장", "책장", 1, false);
+        trie.add("책상", "책상", 1, false);
+        trie.recomputeAll();
+
+        assertThat(trie.complete("책", 10)).containsExactly("책상", "책장", "책상 의자");
+    }
+
+    @Test
+    void 없는_키의_감소는_무시한다() {
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("노트북", "노트북", -1, true);
+
+        assertThat(trie.size()).isZero();
+        assertThat(trie.complete("노", 10)).isEmpty();
+    }
+}
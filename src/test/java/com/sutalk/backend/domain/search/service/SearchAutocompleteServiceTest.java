@@ -0,0 +1,52 @@
+package com.sutalk.backend.domain.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchAutocompleteServiceTest {
+
+    // complete / adjust 는 저장소를 쓰지 않음 (rebuild 에서만 사용)
+    private final SearchAutocompleteService service = new SearchAutocompleteService(null, null);
+
+    @Test
+    void 초성으로_매칭한다() {
+        service.adjust("아이폰", 3);
+        service.adjust("아이패드", 1);
+        service.adjust("갤럭시", 5);
+
+        assertThat(service.complete("ㅇㅇㅍ", 10)).containsExactly("아이폰", "아이패드");
+        assertThat(service.complete("ㅇㅇㅍㄷ", 10)).containsExactly("아이패드");
+        assertThat(service.complete("ㄱㄹ", 10)).containsExactly("갤럭시");
+        // 완성형 + 초성 혼합 입력
+        assertThat(service.complete("아이ㅍ", 10)).containsExactly("아이폰", "아이패드");
+    }
+
+    @Test
+    void 초성이_같은_다른_문구는_따로_유지된다() {
+        service.adjust("사과", 2);
+        service.adjust("수건", 1);
+
+        assertThat(service.complete("ㅅㄱ", 10)).containsExactly("사과", "수건");
+        assertThat(service.complete("사", 10)).containsExactly("사과");
+    }
+
+    @Test
+    void 대소문자와_공백을_정규화한다() {
+        service.adjust("  MacBook   Pro ", 1);
+
+        assertThat(service.complete("macbook p", 10)).containsExactly("MacBook   Pro");
+        assertThat(service.complete("   ", 10)).isEmpty();
+    }
+
+    @Test
+    void 제목_변경과_삭제를_반영한다() {
+        service.adjust("의자", 1);
+        service.replace("의자", "책상 의자");
+        assertThat(service.complete("의", 10)).isEmpty();
+        assertThat(service.complete("책", 10)).containsExactly("책상 의자");
+
+        service.adjust("책상 의자", -1);
+        assertThat(service.complete("ㅊ", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,159 @@
+package com.sutalk.backend.global.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WTinyLfuCacheTest {
+
+    /** maximumSize=100 → window 1 / main 99 (protected 최대 79) */
+    private static WTinyLfuCache<String, String> newCache() {
+        return new WTinyLfuCache<>(100, 0);
+    }
+
+    private static Map<?, ?> segment(WTinyLfuCache<?, ?> cache, String name) {
+        return (Map<?, ?>) ReflectionTestUtils.getField(cache, name);
+    }
+
+    @Test
+    void 자주_요청된_항목은_main_이_가득_차도_입장한다() {
+        WTinyLfuCache<String, String> cache = newCache();
+        for (int i = 0; i < 100; i++) cache.put("k" + i, "v" + i); // main 을 빈도 0 항목으로 채움
+
+        for (int i = 0; i < 5; i++) cache.getIfPresent("popular"); // 미스도 빈도에 반영
+        cache.put("popular", "p");
+        cache.put("next", "n"); // popular 가 window 에서 밀려나 입장 심사
+
+        assertThat(cache.getIfPresent("popular")).contains("p");
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void 한_번_스친_항목은_기존_항목을_밀어내지_못한다() {
+        WTinyLfuCache<String, String> cache = newCache();
+        for (int i = 0; i < 100; i++) cache.put("k" + i, "v" + i);
+
+        cache.put("oneOff", "o");
+        cache.put("next", "n"); // oneOff(빈도 0) vs probation 희생자(빈도 0) → 후보 탈락
+
+        assertThat(cache.getIfPresent("oneOff")).isEmpty();
+        assertThat(cache.stats().get("evictions")).isEqualTo(2L); // 100번째 k99 / oneOff
+    }
+
+    @Test
+    void 스캔성_조회가_자주_쓰는_항목을_밀어내지_않는다() {
+        WTinyLfuCache<String, String> cache = newCache();
+        for (int i = 0; i < 100; i++) cache.get("k" + i, key -> "v");
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) cache.getIfPresent("k" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) cache.get("scan" + i, key -> "v");
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.getIfPresent("k" + i)).as("k" + i).isPresent();
+        }
+    }
+
+    @Test
+    void probation_항목은_두_번째_적중에서_protected_로_승격된다() {
+        WTinyLfuCache<String, String> cache = newCache();
+        cache.put("a", "1");
+        cache.put("b", "2"); // window(1개) 초과 → a 는 probation 으로
+
+        assertThat(segment(cache, "probation")).containsKey("a");
+        assertThat(segment(cache, "window")).containsKey("b");
+
+        assertThat(cache.getIfPresent("a")).contains("1");
+
+        assertThat(segment(cache, "probation")).doesNotContainKey("a");
+        assertThat(segment(cache, "protectedSeg")).containsKey("a");
+    }
+
+    @Test
+    void TTL이_지난_항목은_미스로_처리하고_제거한다() throws InterruptedException {
+        WTinyLfuCache<String, String> cache = new WTinyLfuCache<>(100, 1);
+        cache.put("a", "1");
+
+        Thread.sleep(20);
+
+        assertThat(cache.getIfPresent("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats()).containsEntry("expirations", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void TTL이_지난_항목은_로더로_다시_읽는다() throws InterruptedException {
+        WTinyLfuCache<String, String> cache = new WTinyLfuCache<>(100, 1);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> "v" + loads.incrementAndGet());
+
+        Thread.sleep(20);
+
+        assertThat(cache.get("a", key -> "v" + loads.incrementAndGet())).contains("v2");
+    }
+
+    @Test
+    void 로더_결과를_적재하고_다음_조회는_적중한다() {
+        WTinyLfuCache<String, String> cache = newCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("a", key -> "v" + loads.incrementAndGet())).contains("v1");
+        assertThat(cache.get("a", key -> "v" + loads.incrementAndGet())).contains("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("none", key -> null)).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_후에는_다시_로딩한다() {
+        WTinyLfuCache<String, String> cache = newCache();
+        cache.put("a", "old");
+
+        cache.invalidate("a");
+
+        assertThat(cache.getIfPresent("a")).isEmpty();
+        assertThat(cache.get("a", key -> "new")).contains("new");
+    }
+
+    @Test
+    void 로딩_도중_무효화되면_낡은_로더_결과를_적재하지_않는다() {
+        WTinyLfuCache<String, String> cache = newCache();
+
+        // 로더가 DB 를 읽은 뒤 반환하기 전에 다른 스레드의 invalidate 가 끼어든 상황
+        assertThat(cache.get("a", key -> {
+            cache.invalidate("a");
+            return "stale";
+        })).contains("stale");
+
+        assertThat(cache.getIfPresent("a")).isEmpty();
+    }
+
+    @Test
+    void 로딩_도중_전체_무효화돼도_적재하지_않는다() {
+        WTinyLfuCache<String, String> cache = newCache();
+
+        cache.get("a", key -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertThat(cache.getIfPresent("a")).isEmpty();
+    }
+
+    @Test
+    void 로딩_도중_들어온_put_값을_덮어쓰지_않는다() {
+        WTinyLfuCache<String, String> cache = newCache();
+
+        cache.get("a", key -> {
+            cache.put("a", "fresh");
+            return "stale";
+        });
+
+        assertThat(cache.getIfPresent("a")).contains("fresh");
+    }
+}
@@ -0,0 +1,132 @@
+package com.sutalk.backend.global.config;
+
+import com.sutalk.backend.domain.user.service.UserCache;
+import com.sutalk.backend.global.config.JWT.JwtVerifier;
+import com.sutalk.backend.global.config.JWT.StompAuthChannelInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ websocket.broker.mode=cluster 다중 노드 테스트
+ * WebSocket 설정 + 클러스터 브리지만 올린 애플리케이션 컨텍스트 두 개(노드 A, B)를 같은 InProcessClusterBus 로 묶고
+ * 한 노드에서 보낸 /topic 메시지가 다른 노드 구독자에게 전달되는지 확인 (DB 없이)
+ */
+class ClusterBrokerBridgeTest {
+
+    private static final String DESTINATION = "/topic/chat/1";
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        String cluster = "test-" + UUID.randomUUID();
+        nodeA = startNode(cluster);
+        nodeB = startNode(cluster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeA != null) nodeA.close();
+        if (nodeB != null) nodeB.close();
+    }
+
+    @Test
+    void 다른_노드에서_보낸_메시지를_구독자가_받는다() throws InterruptedException {
+        BlockingQueue<Message<?>> received = subscribe(nodeB, "session-b", "sub-b");
+
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(DESTINATION, "안녕하세요");
+
+        Message<?> message = received.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo("session-b");
+        assertThat(SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders())).isEqualTo("sub-b");
+        assertThat(payloadOf(message)).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    void 양쪽_노드_구독자가_한_번씩만_받는다() throws InterruptedException {
+        BlockingQueue<Message<?>> receivedA = subscribe(nodeA, "session-a", "sub-a");
+        BlockingQueue<Message<?>> receivedB = subscribe(nodeB, "session-b", "sub-b");
+
+        nodeB.getBean(SimpMessagingTemplate.class).convertAndSend(DESTINATION, "한 번만");
+
+        assertThat(receivedA.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(receivedB.poll(5, TimeUnit.SECONDS)).isNotNull();
+        // 넘어온 메시지를 다시 버스로 내보내면 노드 사이를 계속 오가며 중복 전달됨
+        assertThat(receivedA.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(receivedB.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private static ConfigurableApplicationContext startNode(String cluster) {
+        return new SpringApplicationBuilder(NodeConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "websocket.broker.mode=cluster",
+                        "websocket.broker.cluster-name=" + cluster,
+                        "websocket.auth.required=false")
+                .run();
+    }
+
+    /** 노드의 simple broker 에 바로 구독을 등록하고, 그 세션으로 나가는 메시지를 모음 */
+    private static BlockingQueue<Message<?>> subscribe(ConfigurableApplicationContext node, String sessionId,
+                                                       String subscriptionId) {
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        node.getBean("clientOutboundChannel", ExecutorSubscribableChannel.class).subscribe(message -> {
+            if (sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+                received.add(message);
+            }
+        });
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(DESTINATION);
+        node.getBean(SimpleBrokerMessageHandler.class)
+                .handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        return received;
+    }
+
+    private static String payloadOf(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    @Configuration
+    @Import({WebSocketConfig.class, ClusterBrokerBridge.class, StompChannelExecutors.class,
+            StompAuthChannelInterceptor.class})
+    static class NodeConfig {
+
+        @Bean
+        JwtVerifier jwtVerifier() {
+            return Mockito.mock(JwtVerifier.class);
+        }
+
+        @Bean
+        UserCache userCache() {
+            return Mockito.mock(UserCache.class);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sutalk.backend.global.config.JWT;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 인증 필터 오버헤드 벤치마크 (./gradlew jmh -Pjmh.include=JwtFilterBenchmark)
+ * - legacyDoubleParse : 기존 방식 (요청마다 문자열 secret 으로 파서 생성 + validate / getUserId 두 번 검증)
+ * - verifierUncached  : 미리 만든 키/파서로 한 번만 파싱 (캐시 미스 경로)
+ * - verifierCached    : 다이제스트 캐시 적중 경로
+ * - filterCached      : JwtAuthenticationFilter 전체 (요청 1건 = 필터 통과 + SecurityContext 설정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private String secret;
+    private String token;
+    private JwtVerifier verifier;
+    private JwtParser parser;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[32];
+        for (int i = 0; i < key.length; i++) key[i] = (byte) (i * 31 + 7);
+        secret = Base64.getEncoder().encodeToString(key);
+
+        verifier = new JwtVerifier(secret, 10_000, 300_000);
+        Date now = new Date();
+        token = Jwts.builder()
+                .setSubject("bench-user")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 3_600_000))
+                .signWith(verifier.getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        parser = Jwts.parserBuilder().setSigningKey(verifier.getSigningKey()).build();
+        filter = new JwtAuthenticationFilter(verifier);
+        ReflectionTestUtils.setField(filter, "adminUserIds", Set.of());
+        request = new MockHttpServletRequest("GET", "/api/items");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public void legacyDoubleParse(Blackhole bh) {
+        bh.consume(Jwts.parserBuilder().setSigningKey(secret).build().parseClaimsJws(token));
+        bh.consume(Jwts.parserBuilder().setSigningKey(secret).build().parseClaimsJws(token).getBody().getSubject());
+    }
+
+    @Benchmark
+    public Object verifierUncached() {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Object verifierCached() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
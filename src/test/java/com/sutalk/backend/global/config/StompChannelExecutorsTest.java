@@ -0,0 +1,195 @@
+package com.sutalk.backend.global.config;
+
+import com.sutalk.backend.global.config.JWT.StompAuthChannelInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ✅ STOMP 채널 실행기 테스트
+ * 배포 기본값(@Value 기본값)으로 만든 StompChannelExecutors 를 WebSocketConfig 가 ChannelRegistration 에 넘기는 그대로 사용
+ * 핸들러는 sleep 대신 래치로 막아서 동시 실행 수를 시간과 무관하게 확인
+ */
+class StompChannelExecutorsTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(StompChannelExecutors.class);
+
+    @Test
+    void WebSocketConfig가_전용_실행기를_채널에_등록한다() {
+        contextRunner.run(context -> {
+            StompChannelExecutors executors = context.getBean(StompChannelExecutors.class);
+
+            assertThat(registeredInbound(executors)).isSameAs(executors.inbound());
+            assertThat(registeredOutbound(executors)).isSameAs(executors.outbound());
+        });
+    }
+
+    @Test
+    void 기본값의_core_는_Spring_기본_채널_실행기_이상이고_큐가_차기_전에도_core_만큼_동시에_실행한다() {
+        contextRunner.run(context -> {
+            StompChannelExecutors executors = context.getBean(StompChannelExecutors.class);
+            ThreadPoolTaskExecutor inbound = registeredInbound(executors);
+            int core = inbound.getCorePoolSize();
+
+            assertThat(core).isGreaterThanOrEqualTo(Runtime.getRuntime().availableProcessors() * 2);
+            assertThat(inbound.getMaxPoolSize()).isGreaterThanOrEqualTo(core);
+
+            inbound.initialize();
+            try {
+                // core 개의 작업이 모두 동시에 시작되어야 래치가 열림 (큐에 쌓여 대기하면 시간 초과)
+                CountDownLatch started = new CountDownLatch(core);
+                CountDownLatch release = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(core);
+                ExecutorSubscribableChannel channel = channel(inbound, started, release, done);
+                for (int i = 0; i < core; i++) {
+                    channel.send(MessageBuilder.withPayload(i).build());
+                }
+
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+                release.countDown();
+                assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                inbound.shutdown();
+            }
+        });
+    }
+
+    @Test
+    void 통계에_완료_건수와_큐_대기가_잡힌다() {
+        contextRunner.withPropertyValues(
+                "websocket.channel.inbound.core-pool-size=2",
+                "websocket.channel.inbound.max-pool-size=2"
+        ).run(context -> {
+            StompChannelExecutors executors = context.getBean(StompChannelExecutors.class);
+            ThreadPoolTaskExecutor inbound = registeredInbound(executors);
+            inbound.initialize();
+            int messages = 10;
+            try {
+                CountDownLatch started = new CountDownLatch(2);
+                CountDownLatch release = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(messages);
+                ExecutorSubscribableChannel channel = channel(inbound, started, release, done);
+                for (int i = 0; i < messages; i++) {
+                    channel.send(MessageBuilder.withPayload(i).build());
+                }
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+                // 두 스레드가 막혀 있는 동안 나머지는 큐에서 대기
+                assertThat(channelStats(executors, "inbound").get("queueDepth")).isEqualTo(messages - 2);
+
+                release.countDown();
+                assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                inbound.shutdown();
+                inbound.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+            }
+
+            Map<String, Object> stats = channelStats(executors, "inbound");
+            assertThat(stats.get("completed")).isEqualTo((long) messages);
+            assertThat(stats.get("callerRuns")).isEqualTo(0L);
+            assertThat((double) stats.get("maxWaitMsSinceLastRead")).isPositive();
+        });
+    }
+
+    @Test
+    void 큐와_최대_스레드가_가득_차면_호출_스레드에서_실행한다() {
+        contextRunner.withPropertyValues(
+                "websocket.channel.inbound.core-pool-size=1",
+                "websocket.channel.inbound.max-pool-size=1",
+                "websocket.channel.inbound.queue-capacity=1"
+        ).run(context -> {
+            StompChannelExecutors executors = context.getBean(StompChannelExecutors.class);
+            ThreadPoolTaskExecutor inbound = registeredInbound(executors);
+            inbound.initialize();
+            try {
+                CountDownLatch started = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(3);
+                AtomicInteger callerThreadRuns = new AtomicInteger();
+                Thread caller = Thread.currentThread();
+                ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(inbound);
+                channel.subscribe(message -> {
+                    if (Thread.currentThread() == caller) {
+                        callerThreadRuns.incrementAndGet(); // 호출 스레드는 막지 않음
+                    } else {
+                        started.countDown();
+                        await(release);
+                    }
+                    done.countDown();
+                });
+
+                channel.send(MessageBuilder.withPayload(1).build()); // 작업 스레드에서 막힘
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+                channel.send(MessageBuilder.withPayload(2).build()); // 큐
+                channel.send(MessageBuilder.withPayload(3).build()); // 거절 → 호출 스레드에서 실행
+
+                assertThat(callerThreadRuns).hasValue(1);
+                release.countDown();
+                assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                inbound.shutdown();
+            }
+
+            assertThat(channelStats(executors, "inbound").get("callerRuns")).isEqualTo(1L);
+        });
+    }
+
+    /** WebSocketConfig.configureClientInboundChannel 이 등록하는 실행기 */
+    private static ThreadPoolTaskExecutor registeredInbound(StompChannelExecutors executors) {
+        ChannelRegistration registration = mock(ChannelRegistration.class);
+        webSocketConfig(executors).configureClientInboundChannel(registration);
+        verify(registration).taskExecutor(executors.inbound());
+        return executors.inbound();
+    }
+
+    private static ThreadPoolTaskExecutor registeredOutbound(StompChannelExecutors executors) {
+        ChannelRegistration registration = mock(ChannelRegistration.class);
+        webSocketConfig(executors).configureClientOutboundChannel(registration);
+        verify(registration).taskExecutor(executors.outbound());
+        return executors.outbound();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WebSocketConfig webSocketConfig(StompChannelExecutors executors) {
+        return new WebSocketConfig(mock(ObjectProvider.class), mock(StompAuthChannelInterceptor.class), executors);
+    }
+
+    /** started 를 세고 release 까지 막힌 뒤 done 을 세는 구독자를 단 채널 */
+    private static ExecutorSubscribableChannel channel(ThreadPoolTaskExecutor executor, CountDownLatch started,
+                                                       CountDownLatch release, CountDownLatch done) {
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+        channel.subscribe(message -> {
+            started.countDown();
+            await(release);
+            done.countDown();
+        });
+        return channel;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> channelStats(StompChannelExecutors executors, String channel) {
+        return (Map<String, Object>) executors.stats().get(channel);
+    }
+}
@@ -36,6 +36,10 @@ const ChatRoom = () => {
 
   /** ✅ 메시지 목록 */
   const { messages, setMessages, loading: messagesLoading } = useChatMessages(chatRoomId);
+  const messagesRef = useRef([]);
+  useEffect(() => {
+    messagesRef.current = messages;
+  }, [messages]);
 
   /** ✅ 거래 및 상태 관리 */
   const transactionId = useTransactionId(itemId, senderId);
@@ -76,6 +80,10 @@ const ChatRoom = () => {
 
       const client = new Client({
         brokerURL: wsUrl,
+        // ✅ STOMP CONNECT 시 JWT 전달 (재연결 때마다 최신 토큰으로)
+        beforeConnect: () => {
+          client.connectHeaders = { Authorization: `Bearer ${useAuthStore.getState().getToken()}` };
+        },
         reconnectDelay: 5000,
         heartbeatIncoming: 10000,
         heartbeatOutgoing: 10000,
@@ -138,6 +146,35 @@ const ChatRoom = () => {
             }
           });
 
+          /** ✅ 재연결 동기화: 끊긴 동안의 메시지 + 상대방 읽음 위치만 받아오기 */
+          client.subscribe("/user/queue/chat.sync", (msg) => {
+            const { rooms = [] } = JSON.parse(msg.body);
+            const room = rooms.find((r) => String(r.chatRoomId) === String(roomId));
+            if (!room) return;
+            const otherRead = Math.max(
+              0,
+              ...room.readMarks.filter((r) => r.userId !== senderId).map((r) => r.lastReadMessageId)
+            );
+            setMessages((prev) => {
+              const missing = room.messages
+                .map(normalizeMessage)
+                .filter((n) => !prev.some((m) => m.messageId === n.messageId));
+              return [...prev, ...missing].map((m) =>
+                m.senderId === senderId && m.messageId && m.messageId <= otherRead
+                  ? { ...m, isRead: true }
+                  : m
+              );
+            });
+          });
+
+          const lastMessageId = Math.max(0, ...messagesRef.current.map((m) => m.messageId ?? 0));
+          if (lastMessageId > 0) {
+            client.publish({
+              destination: "/app/chat.sync",
+              body: JSON.stringify({ rooms: [{ chatRoomId: Number(roomId), afterMessageId: lastMessageId }] }),
+            });
+          }
+
           /** ✅ 입장 시 읽음 요청 */
           if (senderId) {
             client.publish({
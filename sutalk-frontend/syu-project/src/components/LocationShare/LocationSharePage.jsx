@@ -1,6 +1,8 @@
 import React, { useEffect, useRef, useState } from "react";
 import { Client } from "@stomp/stompjs";
 import { loadKakaoOnce } from "@/utils/loadKakaoOnce";
+import axios from "@/api/axiosInstance";
+import { nearbyCells, LOCATION_CELL_PRECISION } from "@/utils/geohash";
 import { useAuthStore } from "@/stores/useAuthStore";
 import { useModalStore } from "@/stores/useModalStore";
 import UserListModal from "./UserListModal";
@@ -12,6 +14,8 @@ export default function LocationSharePage() {
     const markersRef = useRef({});
     const clustersRef = useRef({});
     const clientRef = useRef(null);
+    const cellSubsRef = useRef({});      // 구독 중인 위치 셀 → subscription
+    const cellPrecisionRef = useRef(LOCATION_CELL_PRECISION); // 서버 셀 정밀도
     const appKey = import.meta.env.VITE_KAKAO_MAP_APPKEY;
     const { openProfile } = useModalStore();
     const { userId, name } = useAuthStore();
@@ -46,6 +50,10 @@ export default function LocationSharePage() {
         if (!userId || !name) return;
         const client = new Client({
             brokerURL: "wss://sutalkmarket.shop/ws",
+            // ✅ STOMP CONNECT 시 JWT 전달 (재연결 때마다 최신 토큰으로)
+            beforeConnect: () => {
+                client.connectHeaders = { Authorization: `Bearer ${useAuthStore.getState().getToken()}` };
+            },
             reconnectDelay: 500,
             heartbeatIncoming: 4000,
             heartbeatOutgoing: 4000,
@@ -54,11 +62,6 @@ export default function LocationSharePage() {
         client.onConnect = () => {
             console.log("✅ WebSocket 연결됨");
 
-            client.subscribe("/topic/location", (msg) => {
-                const data = JSON.parse(msg.body);
-                updateMarker(data);
-            });
-
             navigator.geolocation.getCurrentPosition(
                 (pos) => {
                     const { latitude, longitude } = pos.coords;
@@ -70,9 +73,28 @@ export default function LocationSharePage() {
             );
         };
 
+        // ✅ 내 주변 셀 토픽만 구독 (셀이 바뀌면 벗어난 셀은 구독 해제)
+        const subscribeNearby = (lat, lng) => {
+            const cells = nearbyCells(lat, lng, cellPrecisionRef.current);
+            Object.keys(cellSubsRef.current).forEach((cell) => {
+                if (!cells.includes(cell)) {
+                    cellSubsRef.current[cell].unsubscribe();
+                    delete cellSubsRef.current[cell];
+                }
+            });
+            cells.forEach((cell) => {
+                if (cellSubsRef.current[cell]) return;
+                cellSubsRef.current[cell] = client.subscribe(`/topic/location/${cell}`, (msg) => {
+                    const data = JSON.parse(msg.body);
+                    updateMarker(data);
+                });
+            });
+        };
+
         const sendLocation = (lat, lng) => {
             const payload = { userId, name, lat, lng };
             if (client.connected) {
+                subscribeNearby(lat, lng);
                 client.publish({
                     destination: "/app/location.update",
                     body: JSON.stringify(payload),
@@ -81,9 +103,28 @@ export default function LocationSharePage() {
             }
         };
 
-        client.activate();
+        // 재연결 시 새 세션에서 다시 구독하도록 초기화
+        client.onWebSocketClose = () => {
+            cellSubsRef.current = {};
+        };
+
+        // ✅ 서버 셀 정밀도를 받은 뒤 연결 (실패하면 기본값으로 진행)
+        let cancelled = false;
+        axios.get("/location/config")
+            .then((res) => {
+                const precision = Number(res.data?.cellPrecision);
+                if (Number.isInteger(precision) && precision > 0) cellPrecisionRef.current = precision;
+            })
+            .catch((err) => console.error("❌ 위치공유 설정 조회 실패(기본 정밀도 사용):", err))
+            .finally(() => {
+                if (!cancelled) client.activate();
+            });
         clientRef.current = client;
-        return () => client.deactivate();
+        return () => {
+            cancelled = true;
+            cellSubsRef.current = {};
+            client.deactivate();
+        };
     }, [userId, name]);
 
     // ✅ 3. 마커 표시
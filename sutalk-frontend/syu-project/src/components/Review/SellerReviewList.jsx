@@ -2,22 +2,35 @@ import React, { useEffect, useState } from "react";
 import axios from "@/api/axiosInstance";
 import "./SellerReviewList.css";
 
+const PAGE_SIZE = 20;
+
 const SellerReviewList = ({ sellerId }) => {
   const [reviews, setReviews] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasMore, setHasMore] = useState(false);
+  const [loading, setLoading] = useState(false);
+
+  // ✅ 키셋 페이지 조회 (cursor 없으면 최신 페이지)
+  const fetchPage = async (cursor) => {
+    setLoading(true);
+    try {
+      const res = await axios.get(`/reviews/seller/${sellerId}/page`, {
+        params: { size: PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+      });
+      const page = res.data;
+      setReviews((prev) => (cursor ? [...prev, ...page.reviews] : page.reviews));
+      setNextCursor(page.nextCursor);
+      setHasMore(page.hasMore);
+    } catch (err) {
+      console.error("❌ 리뷰 조회 실패:", err);
+    } finally {
+      setLoading(false);
+    }
+  };
 
   useEffect(() => {
     if (!sellerId) return;
-
-    const fetchData = async () => {
-      try {
-        const res = await axios.get(`/reviews/seller/${sellerId}`);
-        setReviews(res.data);
-      } catch (err) {
-        console.error("❌ 리뷰 조회 실패:", err);
-      }
-    };
-
-    fetchData();
+    fetchPage(null);
   }, [sellerId]);
 
   return (
@@ -28,10 +41,10 @@ const SellerReviewList = ({ sellerId }) => {
           아직 후기가 없습니다.
         </p>
       ) : (
-        reviews.map((review, idx) => (
-          <div key={idx} className="review-box">
+        reviews.map((review) => (
+          <div key={review.reviewId} className="review-box">
            <div className="review-header">
-              <span>👤 {review.reviewerName}</span> {/* ✅ 여기! */}
+              <span>👤 {review.reviewerNickname}</span>
               <span className="review-rating">⭐ {review.rating}</span>
             </div>
 
@@ -43,6 +56,15 @@ const SellerReviewList = ({ sellerId }) => {
           </div>
         ))
       )}
+      {hasMore && (
+        <button
+          className="review-more-btn"
+          onClick={() => fetchPage(nextCursor)}
+          disabled={loading}
+        >
+          {loading ? "불러오는 중..." : "후기 더보기"}
+        </button>
+      )}
     </div>
   );
 };
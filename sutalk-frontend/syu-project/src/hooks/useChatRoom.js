@@ -3,6 +3,7 @@ import { useState, useEffect } from "react"
 import { useLocation } from "react-router-dom"
 import axios from "@/api/axiosInstance"
 import { Client } from "@stomp/stompjs"
+import { useAuthStore } from "@/stores/useAuthStore.js"
 
 /**
  * ✅ 채팅방 메타데이터를 관리하는 훅
@@ -110,6 +111,10 @@ export const useWebSocket = (chatRoomId, onMessage) => {
 
     const client = new Client({
       brokerURL: `${WS_BASE}/ws`,
+      // ✅ STOMP CONNECT 시 JWT 전달 (재연결 때마다 최신 토큰으로)
+      beforeConnect: () => {
+        client.connectHeaders = { Authorization: `Bearer ${useAuthStore.getState().getToken()}` }
+      },
       reconnectDelay: 5000,
       onConnect: () => {
         client.subscribe(`/topic/chat/${chatRoomId}`, (message) => {
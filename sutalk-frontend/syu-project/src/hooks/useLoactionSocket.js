@@ -1,5 +1,6 @@
 import { useEffect, useRef } from "react";
 import { Client } from "@stomp/stompjs";
+import { useAuthStore } from "@/stores/useAuthStore";
 import { useNearbyStore } from "@/stores/useNearbyStore";
 
 export function useLocationSocket(userId: string, nickname: string) {
@@ -12,6 +13,10 @@ export function useLocationSocket(userId: string, nickname: string) {
 
         const client = new Client({
             brokerURL: "ws://localhost:8080/ws", // ✅ 서버 ws endpoint
+            // ✅ STOMP CONNECT 시 JWT 전달 (재연결 때마다 최신 토큰으로)
+            beforeConnect: () => {
+                client.connectHeaders = { Authorization: `Bearer ${useAuthStore.getState().getToken()}` };
+            },
             reconnectDelay: 5000,
         });
 
@@ -0,0 +1,58 @@
+// ✅ 위치공유 셀 계산 (백엔드 GeoHash.java 와 동일한 알고리즘)
+// 정밀도는 서버 설정(location.cell-precision)을 GET /api/location/config 로 받아서 사용
+const BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+// 설정을 못 받았을 때의 기본값 (서버 기본값과 동일)
+export const LOCATION_CELL_PRECISION = 6;
+
+export function encodeGeohash(lat, lng, precision = LOCATION_CELL_PRECISION) {
+    let minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+    let hash = "";
+    let evenBit = true;
+    let bit = 0;
+    let ch = 0;
+
+    while (hash.length < precision) {
+        if (evenBit) {
+            const mid = (minLng + maxLng) / 2;
+            if (lng >= mid) {
+                ch = (ch << 1) | 1;
+                minLng = mid;
+            } else {
+                ch = ch << 1;
+                maxLng = mid;
+            }
+        } else {
+            const mid = (minLat + maxLat) / 2;
+            if (lat >= mid) {
+                ch = (ch << 1) | 1;
+                minLat = mid;
+            } else {
+                ch = ch << 1;
+                maxLat = mid;
+            }
+        }
+        evenBit = !evenBit;
+        if (++bit === 5) {
+            hash += BASE32[ch];
+            bit = 0;
+            ch = 0;
+        }
+    }
+    return hash;
+}
+
+// ✅ 내 셀 + 주변 8개 셀 (구독 대상)
+export function nearbyCells(lat, lng, precision = LOCATION_CELL_PRECISION) {
+    const bits = precision * 5;
+    const cellLng = 360 / 2 ** Math.ceil(bits / 2);
+    const cellLat = 180 / 2 ** Math.floor(bits / 2);
+
+    const cells = new Set();
+    for (const dLat of [-1, 0, 1]) {
+        for (const dLng of [-1, 0, 1]) {
+            cells.add(encodeGeohash(lat + dLat * cellLat, lng + dLng * cellLng, precision));
+        }
+    }
+    return [...cells];
+}